@@ -0,0 +1,73 @@
+package com.universidad.crud.benchmark;
+
+import com.universidad.crud.dto.ProductoRequest;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.model.Producto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generador de datos de prueba para los benchmarks.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+final class DatosBenchmark {
+
+    private static final String[] MARCAS = {"Logitech", "Samsung", "Sony", "HP", "Lenovo", "Asus", "Redragon"};
+    private static final String[] TIPOS = {"Mouse", "Monitor", "Teclado", "Laptop", "Auriculares", "Parlante"};
+
+    private DatosBenchmark() {
+    }
+
+    static Producto producto(long id) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return Producto.builder()
+                .id(id)
+                .nombre(nombre(id))
+                .descripcion(descripcion(id))
+                .precio(precio(id))
+                .fechaCreacion(ahora)
+                .fechaActualizacion(ahora)
+                .build();
+    }
+
+    static List<ProductoResponse> respuestas(int cantidad) {
+        List<ProductoResponse> respuestas = new ArrayList<>(cantidad);
+        for (long id = 1; id <= cantidad; id++) {
+            respuestas.add(ProductoResponse.fromEntity(producto(id)));
+        }
+        return respuestas;
+    }
+
+    static List<ProductoRequest> requests(int desde, int cantidad) {
+        List<ProductoRequest> requests = new ArrayList<>(cantidad);
+        for (long id = desde; id < desde + cantidad; id++) {
+            requests.add(ProductoRequest.builder()
+                    .nombre(nombre(id))
+                    .descripcion(descripcion(id))
+                    .precio(precio(id))
+                    .build());
+        }
+        return requests;
+    }
+
+    private static String nombre(long id) {
+        return TIPOS[(int) (id % TIPOS.length)] + " " + MARCAS[(int) (id % MARCAS.length)] + " " + id;
+    }
+
+    private static String descripcion(long id) {
+        StringBuilder sb = new StringBuilder("Producto de prueba número ").append(id).append('.');
+        while (sb.length() < 400) {
+            sb.append(" Descripción extensa para simular el tamaño real del catálogo.");
+        }
+        return sb.toString();
+    }
+
+    private static BigDecimal precio(long id) {
+        return BigDecimal.valueOf(1000 + (id * 7919) % 5_000_000, 2);
+    }
+}
@@ -0,0 +1,50 @@
+package com.universidad.crud.benchmark;
+
+import com.universidad.crud.exception.ErrorResponse;
+import com.universidad.crud.exception.GlobalExceptionHandler;
+import com.universidad.crud.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del camino 404: creación de ResourceNotFoundException (incluida la captura
+ * de la traza de pila) y su conversión en respuesta por GlobalExceptionHandler.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcepcionBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void preparar() {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/api/v1/productos/999");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> productoNoEncontrado() {
+        return handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("Producto", "id", 999L), request);
+    }
+}
@@ -0,0 +1,104 @@
+package com.universidad.crud.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.universidad.crud.dto.ProductoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmark de los formatos de respuesta de la API: JSON, Smile y CBOR, con y sin gzip.
+ * Mide la codificación y la decodificación de listas de ProductoResponse; el tamaño en bytes de cada
+ * combinación (lo que viaja por la red) se imprime al preparar el benchmark.
+ * Los ObjectMapper se configuran como los de Spring Boot (fechas ISO-8601) y sin fragmentos JSON en caché,
+ * para comparar solo el costo de cada formato.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatoBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String formato;
+
+    @Param({"10", "100", "1000"})
+    private int tamanio;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private List<ProductoResponse> productos;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] codificado;
+
+    @Setup
+    public void preparar() throws IOException {
+        ObjectMapper objectMapper = constructor(formato)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        CollectionType tipo = objectMapper.getTypeFactory().constructCollectionType(List.class, ProductoResponse.class);
+        writer = objectMapper.writerFor(tipo);
+        reader = objectMapper.readerFor(tipo);
+        productos = DatosBenchmark.respuestas(tamanio);
+        codificado = codificar();
+        System.out.printf("%nBytes en la red: formato=%s tamanio=%d gzip=%s -> %d%n", formato, tamanio, gzip, codificado.length);
+    }
+
+    @Benchmark
+    public byte[] codificar() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(tamanio * 512);
+        try (OutputStream destino = gzip ? new GZIPOutputStream(salida) : salida) {
+            writer.writeValue(destino, productos);
+        }
+        return salida.toByteArray();
+    }
+
+    @Benchmark
+    public List<ProductoResponse> decodificar() throws IOException {
+        InputStream entrada = new ByteArrayInputStream(codificado);
+        try (InputStream origen = gzip ? new GZIPInputStream(entrada) : entrada) {
+            return reader.readValue(origen);
+        }
+    }
+
+    private static Jackson2ObjectMapperBuilder constructor(String formato) {
+        switch (formato) {
+            case "smile":
+                return Jackson2ObjectMapperBuilder.smile();
+            case "cbor":
+                return Jackson2ObjectMapperBuilder.cbor();
+            default:
+                return Jackson2ObjectMapperBuilder.json();
+        }
+    }
+}
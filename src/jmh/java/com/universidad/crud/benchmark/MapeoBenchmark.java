@@ -0,0 +1,43 @@
+package com.universidad.crud.benchmark;
+
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.model.Producto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del mapeo de la entidad Producto a ProductoResponse.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeoBenchmark {
+
+    private Producto producto;
+
+    @Setup
+    public void preparar() {
+        producto = DatosBenchmark.producto(1L);
+    }
+
+    @Benchmark
+    public ProductoResponse fromEntity() {
+        return ProductoResponse.fromEntity(producto);
+    }
+}
@@ -0,0 +1,65 @@
+package com.universidad.crud.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.universidad.crud.config.FragmentosJson;
+import com.universidad.crud.dto.ProductoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la serialización JSON de listas de ProductoResponse con distintos tamaños.
+ * Utiliza un ObjectMapper configurado igual que el de Spring Boot (fechas ISO-8601), con o sin
+ * la caché de fragmentos JSON (con fragmentos=true se mide el caso en que todos están en caché).
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int tamanio;
+
+    @Param({"false", "true"})
+    private boolean fragmentos;
+
+    private List<ProductoResponse> productos;
+    private ObjectWriter writer;
+
+    @Setup
+    public void preparar() {
+        FragmentosJson fragmentosJson = new FragmentosJson(fragmentos, 10000, new SimpleMeterRegistry());
+        // Habilitado como el ObjectMapper del conversor JSON para las respuestas de listados
+        ObjectMapper objectMapper = fragmentosJson.habilitar(Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(fragmentosJson.modulo())
+                .build());
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ProductoResponse.class));
+        productos = DatosBenchmark.respuestas(tamanio);
+    }
+
+    @Benchmark
+    public byte[] serializarLista() throws Exception {
+        return writer.writeValueAsBytes(productos);
+    }
+}
@@ -0,0 +1,107 @@
+package com.universidad.crud.benchmark;
+
+import com.universidad.crud.CrudProductosApplication;
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.service.IndiceNombres;
+import com.universidad.crud.service.ProductoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de las operaciones de lectura de ProductoServiceImpl contra H2 en memoria
+ * (perfil h2) con el catálogo poblado con N productos.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicioBenchmark {
+
+    private static final int TAMANIO_LOTE = 1000;
+    private static final int LIMITE_MAXIMO = 100;
+
+    @Param({"1000", "10000"})
+    private int productos;
+
+    @Param({"true", "false"})
+    private boolean indiceNombres;
+
+    private ConfigurableApplicationContext contexto;
+    private ProductoService productoService;
+
+    @Setup(Level.Trial)
+    public void iniciar() throws InterruptedException {
+        contexto = new SpringApplicationBuilder(CrudProductosApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=h2",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.universidad.crud=OFF",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--productos.busqueda.indice.habilitado=" + indiceNombres);
+        productoService = contexto.getBean(ProductoService.class);
+
+        IndiceNombres indice = contexto.getBean(IndiceNombres.class);
+        while (indiceNombres && !indice.estaListo()) {
+            Thread.sleep(50);
+        }
+        for (int desde = 0; desde < productos; desde += TAMANIO_LOTE) {
+            productoService.crearLote(DatosBenchmark.requests(desde, Math.min(TAMANIO_LOTE, productos - desde)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void detener() {
+        contexto.close();
+    }
+
+    /**
+     * Recorre el catálogo completo página a página con el límite máximo, como lo haría un cliente
+     * que necesita todos los productos.
+     */
+    @Benchmark
+    public int recorrerCatalogo() {
+        int leidos = 0;
+        String cursor = null;
+        do {
+            PaginaResponse<ProductoResponse> pagina = productoService.obtenerPagina(cursor, LIMITE_MAXIMO);
+            leidos += pagina.getContenido().size();
+            cursor = pagina.getSiguienteCursor();
+        } while (cursor != null);
+        return leidos;
+    }
+
+    @Benchmark
+    public PaginaResponse<ProductoResponse> obtenerPagina() {
+        return productoService.obtenerPagina(null, 20);
+    }
+
+    @Benchmark
+    public List<ProductoResponse> buscarPorNombre() {
+        return productoService.buscarPorNombre("logitech", 20);
+    }
+}
@@ -0,0 +1,23 @@
+package com.universidad.crud.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la caché de lectura de productos.
+ * El proveedor, el tamaño máximo y el tiempo de expiración se definen por perfil
+ * mediante las propiedades spring.cache.* (spring.cache.type=none la desactiva).
+ * La caché se usa desde CacheProductos, que la actualiza al confirmarse cada cambio.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Nombre de la caché de productos por ID.
+     */
+    public static final String CACHE_PRODUCTOS = "productos";
+}
@@ -0,0 +1,36 @@
+package com.universidad.crud.config;
+
+import org.apache.coyote.http11.AbstractHttp11Protocol;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la compresión de respuestas en Tomcat (server.compression.*).
+ * Por defecto Tomcat no comprime las respuestas que llevan un ETag fuerte, lo que dejaría sin comprimir
+ * las consultas condicionales de productos. Los ETag de la API identifican la versión del recurso y se
+ * mantienen fuertes para que If-Match use la comparación fuerte; Tomcat agrega Vary: Accept-Encoding a
+ * las respuestas comprimidas, de modo que las cachés distinguen la variante comprimida de la original.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class CompresionConfig {
+
+    /**
+     * Permite comprimir las respuestas con ETag fuerte.
+     * 
+     * @return Personalizador del conector de Tomcat
+     */
+    @Bean
+    public TomcatConnectorCustomizer compresionConEtagFuerte() {
+        return connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractHttp11Protocol) {
+                ((AbstractHttp11Protocol<?>) connector.getProtocolHandler()).setNoCompressionStrongETag(false);
+            }
+        };
+    }
+}
@@ -0,0 +1,350 @@
+package com.universidad.crud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas de lectura y el resto a la primaria.
+ * Debe usarse detrás de un LazyConnectionDataSourceProxy: la conexión se obtiene en la primera
+ * sentencia, cuando la transacción ya está marcada como de solo lectura.
+ * <p>
+ * El retraso de cada réplica se mide con un latido: la aplicación escribe periódicamente la hora
+ * actual en la tabla replicacion_latido de la primaria y la lee en cada réplica. Las réplicas que no
+ * responden o superan el retraso tolerado dejan de recibir lecturas hasta la siguiente verificación
+ * correcta; sin réplicas disponibles, las lecturas se atienden en la primaria.
+ * <p>
+ * Las métricas se registran como MeterBinder: el registro de métricas depende de los DataSource
+ * (métricas de los pools) y no puede inyectarse en el constructor.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Slf4j
+public class DataSourceReplicas extends AbstractDataSource implements MeterBinder, DisposableBean {
+
+    private static final String REGISTRAR_LATIDO = "UPDATE replicacion_latido SET marca = ? WHERE id = 1";
+    private static final String CONSULTAR_LATIDO = "SELECT marca FROM replicacion_latido WHERE id = 1";
+
+    /**
+     * Indica que el hilo actual debe leer en la primaria aunque la transacción sea de solo lectura.
+     */
+    private static final ThreadLocal<Boolean> EN_PRIMARIA = new ThreadLocal<>();
+
+    private final HikariDataSource primaria;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final PropiedadesReplicas.Seleccion seleccion;
+    private final Duration retrasoMaximo;
+    private final Duration intervaloVerificacion;
+    private final AtomicInteger turno = new AtomicInteger();
+    private final LongAdder respaldos = new LongAdder();
+    private final ScheduledExecutorService verificaciones =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replicas-"));
+
+    private volatile boolean latidoFallando;
+
+    public DataSourceReplicas(HikariDataSource primaria, PropiedadesReplicas propiedades) {
+        this.primaria = primaria;
+        this.seleccion = propiedades.getSeleccion();
+        this.retrasoMaximo = propiedades.getRetrasoMaximo();
+        this.intervaloVerificacion = propiedades.getIntervaloVerificacion();
+
+        List<PropiedadesReplicas.Nodo> nodos = propiedades.getNodos();
+        for (int i = 0; i < nodos.size(); i++) {
+            PropiedadesReplicas.Nodo nodo = nodos.get(i);
+            String nombre = nodo.getNombre() != null ? nodo.getNombre() : "replica-" + (i + 1);
+            replicas.add(new Replica(nombre, crearPool(nombre, nodo)));
+        }
+
+        log.info("Réplicas de lectura: {} (selección {}, retraso máximo {} ms)",
+                replicas.isEmpty() ? "ninguna" : replicas, seleccion, retrasoMaximo.toMillis());
+    }
+
+    /**
+     * Ejecuta una lectura en la primaria aunque la transacción sea de solo lectura, por ejemplo
+     * para leer datos recién modificados que las réplicas aún podrían no tener.
+     *
+     * @param lectura Lectura a ejecutar (la transacción debe iniciarse dentro de ella)
+     * @return Resultado de la lectura
+     */
+    public static <T> T enPrimaria(Supplier<T> lectura) {
+        if (EN_PRIMARIA.get() != null) {
+            return lectura.get();
+        }
+        EN_PRIMARIA.set(Boolean.TRUE);
+        try {
+            return lectura.get();
+        } finally {
+            EN_PRIMARIA.remove();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("productos.replicas.respaldos", respaldos, LongAdder::sum)
+                .description("Lecturas atendidas por la primaria por no haber réplicas disponibles")
+                .register(meterRegistry);
+        for (Replica replica : replicas) {
+            replica.registrarMetricas(meterRegistry);
+            // Los pools de las réplicas aún no se iniciaron: se les puede asignar el registro de métricas
+            if (replica.dataSource.getMetricRegistry() == null && replica.dataSource.getMetricsTrackerFactory() == null) {
+                replica.dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * Inicia la verificación periódica de las réplicas una vez aplicadas las migraciones.
+     * Hasta la primera verificación, todas las lecturas se atienden en la primaria.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarVerificaciones() {
+        if (!replicas.isEmpty()) {
+            verificaciones.scheduleWithFixedDelay(this::verificar, 0,
+                    intervaloVerificacion.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && EN_PRIMARIA.get() == null) {
+            Replica replica = seleccionar();
+            if (replica != null) {
+                try {
+                    return replica.obtenerConexion();
+                } catch (SQLException | RuntimeException ex) {
+                    replica.actualizarEstado(false, ex.getMessage());
+                }
+            }
+            respaldos.increment();
+        }
+        return primaria.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primaria.getConnection(username, password);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        // El pool de la primaria se expone para la verificación del pool y las métricas de Hikari
+        return iface.isInstance(this) ? iface.cast(this) : primaria.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primaria.isWrapperFor(iface);
+    }
+
+    @Override
+    public void destroy() {
+        verificaciones.shutdownNow();
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    /**
+     * Elige una de las réplicas disponibles según el criterio configurado.
+     *
+     * @return Réplica elegida, o null si no hay réplicas disponibles
+     */
+    private Replica seleccionar() {
+        int total = replicas.size();
+        if (total == 0) {
+            return null;
+        }
+        if (seleccion == PropiedadesReplicas.Seleccion.MENOS_CONEXIONES) {
+            Replica elegida = null;
+            for (Replica replica : replicas) {
+                if (replica.disponible && (elegida == null || replica.conexionesActivas() < elegida.conexionesActivas())) {
+                    elegida = replica;
+                }
+            }
+            return elegida;
+        }
+        int inicio = Math.floorMod(turno.getAndIncrement(), total);
+        for (int i = 0; i < total; i++) {
+            Replica replica = replicas.get((inicio + i) % total);
+            if (replica.disponible) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registra un latido en la primaria y mide el retraso de cada réplica.
+     */
+    private void verificar() {
+        try {
+            if (registrarLatido(System.currentTimeMillis())) {
+                replicas.forEach(replica -> replica.verificar(retrasoMaximo.toMillis()));
+            }
+        } catch (RuntimeException ex) {
+            log.error("Error al verificar las réplicas de lectura", ex);
+        }
+    }
+
+    /**
+     * Escribe la marca de tiempo del latido en la primaria.
+     * Si no se puede escribir, el retraso no es medible y las réplicas conservan su estado.
+     *
+     * @param marca Hora actual en milisegundos
+     * @return true si el latido se registró
+     */
+    private boolean registrarLatido(long marca) {
+        try (Connection conexion = primaria.getConnection();
+             PreparedStatement sentencia = conexion.prepareStatement(REGISTRAR_LATIDO)) {
+            sentencia.setLong(1, marca);
+            sentencia.executeUpdate();
+            if (!conexion.getAutoCommit()) {
+                conexion.commit();
+            }
+            if (latidoFallando) {
+                latidoFallando = false;
+                log.info("Latido de replicación registrado nuevamente en la primaria");
+            }
+            return true;
+        } catch (SQLException ex) {
+            if (!latidoFallando) {
+                latidoFallando = true;
+                log.warn("No se pudo registrar el latido de replicación en la primaria: {}", ex.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Crea el pool de una réplica a partir de la configuración del pool de la primaria.
+     * El pool se inicia con la primera conexión, así una réplica caída no impide iniciar la aplicación.
+     */
+    private HikariDataSource crearPool(String nombre, PropiedadesReplicas.Nodo nodo) {
+        HikariDataSource pool = new HikariDataSource();
+        primaria.copyStateTo(pool);
+        pool.setPoolName(primaria.getPoolName() + "-" + nombre);
+        pool.setJdbcUrl(nodo.getUrl());
+        if (nodo.getUsername() != null) {
+            pool.setUsername(nodo.getUsername());
+        }
+        if (nodo.getPassword() != null) {
+            pool.setPassword(nodo.getPassword());
+        }
+        if (nodo.getMaximoConexiones() != null) {
+            pool.setMaximumPoolSize(nodo.getMaximoConexiones());
+            pool.setMinimumIdle(Math.min(pool.getMinimumIdle(), nodo.getMaximoConexiones()));
+        }
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    /**
+     * Réplica de lectura con su pool de conexiones y su estado.
+     */
+    private static final class Replica {
+
+        private final String nombre;
+        private final HikariDataSource dataSource;
+        private final LongAdder lecturas = new LongAdder();
+
+        private volatile boolean disponible;
+        private volatile long retraso = -1;
+        private boolean verificada;
+
+        Replica(String nombre, HikariDataSource dataSource) {
+            this.nombre = nombre;
+            this.dataSource = dataSource;
+        }
+
+        void registrarMetricas(MeterRegistry meterRegistry) {
+            FunctionCounter.builder("productos.replicas.lecturas", lecturas, LongAdder::sum)
+                    .description("Conexiones de solo lectura entregadas por la réplica")
+                    .tag("replica", nombre)
+                    .register(meterRegistry);
+            TimeGauge.builder("productos.replicas.retraso", this, TimeUnit.MILLISECONDS, replica -> replica.retraso)
+                    .description("Retraso de replicación medido con el último latido (-1 si no responde)")
+                    .tag("replica", nombre)
+                    .register(meterRegistry);
+            Gauge.builder("productos.replicas.disponible", this, replica -> replica.disponible ? 1 : 0)
+                    .description("1 si la réplica recibe lecturas")
+                    .tag("replica", nombre)
+                    .register(meterRegistry);
+        }
+
+        Connection obtenerConexion() throws SQLException {
+            Connection conexion = dataSource.getConnection();
+            lecturas.increment();
+            return conexion;
+        }
+
+        int conexionesActivas() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+
+        /**
+         * Lee el último latido replicado y actualiza la disponibilidad según el retraso.
+         */
+        void verificar(long retrasoMaximo) {
+            try (Connection conexion = dataSource.getConnection();
+                 PreparedStatement sentencia = conexion.prepareStatement(CONSULTAR_LATIDO);
+                 ResultSet resultado = sentencia.executeQuery()) {
+                if (!resultado.next()) {
+                    retraso = -1;
+                    actualizarEstado(false, "no tiene la tabla replicacion_latido inicializada");
+                    return;
+                }
+                retraso = Math.max(0, System.currentTimeMillis() - resultado.getLong(1));
+                actualizarEstado(retraso <= retrasoMaximo, "retraso de " + retraso + " ms");
+            } catch (SQLException | RuntimeException ex) {
+                retraso = -1;
+                actualizarEstado(false, ex.getMessage());
+            }
+        }
+
+        /**
+         * Cambia la disponibilidad de la réplica, registrando solo el estado inicial y sus cambios.
+         */
+        synchronized void actualizarEstado(boolean disponibleAhora, String motivo) {
+            if (disponibleAhora != disponible || !verificada) {
+                disponible = disponibleAhora;
+                verificada = true;
+                if (disponibleAhora) {
+                    log.info("Réplica '{}' disponible para lecturas ({})", nombre, motivo);
+                } else {
+                    log.warn("Réplica '{}' excluida de las lecturas: {}", nombre, motivo);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return nombre;
+        }
+    }
+}
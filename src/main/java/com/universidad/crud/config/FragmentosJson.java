@@ -0,0 +1,265 @@
+package com.universidad.crud.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.universidad.crud.dto.CambioProducto;
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductosPorIdResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Caché de la representación JSON ya codificada de cada producto.
+ * Jackson escribe los ProductoResponse presentes en la caché copiando sus bytes UTF-8 en la salida,
+ * sin recorrer sus campos ni formatear sus fechas. Solo aplica a las respuestas JSON de un producto y de
+ * los listados (página, búsqueda, rango de precios y varios IDs), que el conversor JSON de Spring MVC
+ * escribe con un ObjectMapper habilitado con {@link #habilitar(ObjectMapper)}; la exportación NDJSON, el
+ * flujo de cambios y los eventos SSE,
+ * que recorren productos que en general no se vuelven a pedir, se serializan sin pasar por la caché.
+ * Un fragmento solo se reutiliza si el producto es igual (en todos sus campos) al que lo generó, de modo
+ * que nunca se escribe una versión anterior; los cambios confirmados además lo eliminan de la caché.
+ * Los fragmentos se generan con el precio en 2 decimales y las fechas en microsegundos, la precisión de
+ * la base de datos, y se comparan con esa misma normalización.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class FragmentosJson {
+
+    /**
+     * Tipos de las respuestas que se escriben con los fragmentos: un producto y los listados.
+     */
+    public static final List<Class<?>> TIPOS_RESPUESTA = Collections.unmodifiableList(Arrays.asList(
+            ProductoResponse.class, PaginaResponse.class, ProductosPorIdResponse.class, Collection.class));
+
+    /**
+     * Atributo de serialización que habilita los fragmentos.
+     */
+    private static final String ATRIBUTO_HABILITADO = FragmentosJson.class.getName() + ".habilitado";
+
+    /**
+     * Escala del precio (columna NUMERIC(12,2)).
+     */
+    private static final int ESCALA_PRECIO = 2;
+
+    private final Cache<Long, Fragmento> fragmentos;
+    private final boolean habilitado;
+
+    public FragmentosJson(@Value("${productos.json.fragmentos.habilitado:true}") boolean habilitado,
+                          @Value("${productos.json.fragmentos.tamanio-maximo:10000}") long tamanioMaximo,
+                          MeterRegistry meterRegistry) {
+        this.habilitado = habilitado;
+        this.fragmentos = Caffeine.newBuilder()
+                .maximumSize(tamanioMaximo)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragmentos, "productos-json");
+        log.info("Caché de fragmentos JSON de productos {}", habilitado ? "habilitada" : "deshabilitada");
+    }
+
+    /**
+     * Módulo de Jackson que escribe los ProductoResponse a partir de la caché.
+     * En un ObjectMapper de un formato distinto de JSON el módulo no modifica la serialización.
+     *
+     * @return Módulo a registrar en el ObjectMapper
+     */
+    public Module modulo() {
+        return new SimpleModule("fragmentos-json-productos") {
+            @Override
+            public void setupModule(SetupContext context) {
+                super.setupModule(context);
+                ObjectCodec codec = context.getOwner();
+                JsonFactory fabrica = codec.getFactory();
+                // Los fragmentos son texto JSON: no pueden copiarse en la salida de Smile o CBOR
+                if (!habilitado || !JsonFactory.FORMAT_NAME_JSON.equals(fabrica.getFormatName())) {
+                    return;
+                }
+                context.addBeanSerializerModifier(new BeanSerializerModifier() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription descripcion,
+                                                              JsonSerializer<?> serializer) {
+                        return descripcion.getBeanClass() == ProductoResponse.class
+                                ? new Serializador(fabrica, (JsonSerializer<Object>) serializer)
+                                : serializer;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Habilita los fragmentos en las serializaciones de un ObjectMapper que tenga instalado el módulo.
+     *
+     * @param objectMapper ObjectMapper a modificar (normalmente una copia del de la aplicación)
+     * @return El mismo ObjectMapper
+     */
+    public ObjectMapper habilitar(ObjectMapper objectMapper) {
+        return objectMapper.setDefaultAttributes(
+                ContextAttributes.getEmpty().withSharedAttribute(ATRIBUTO_HABILITADO, Boolean.TRUE));
+    }
+
+    /**
+     * Elimina el fragmento de un producto modificado o eliminado.
+     *
+     * @param cambio Cambio confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alConfirmar(CambioProducto cambio) {
+        fragmentos.invalidate(cambio.getId());
+    }
+
+    /**
+     * JSON de un producto junto con el producto del que se generó.
+     */
+    private static final class Fragmento {
+
+        private final ProductoResponse producto;
+        private final SerializableString json;
+
+        Fragmento(ProductoResponse producto, String json) {
+            this.producto = producto;
+            SerializedString serializado = new SerializedString(json);
+            // Se codifica una sola vez: las escrituras posteriores copian estos bytes
+            serializado.asUnquotedUTF8();
+            this.json = serializado;
+        }
+
+        /**
+         * Indica si el fragmento corresponde al producto, comparando con la misma normalización con la
+         * que se generó.
+         */
+        boolean describe(ProductoResponse otro) {
+            return Objects.equals(producto.getId(), otro.getId())
+                    && Objects.equals(producto.getVersion(), otro.getVersion())
+                    && Objects.equals(producto.getNombre(), otro.getNombre())
+                    && Objects.equals(producto.getDescripcion(), otro.getDescripcion())
+                    && Objects.equals(producto.getPrecio(), precio(otro.getPrecio()))
+                    && Objects.equals(producto.getFechaCreacion(), fecha(otro.getFechaCreacion()))
+                    && Objects.equals(producto.getFechaActualizacion(), fecha(otro.getFechaActualizacion()));
+        }
+    }
+
+    /**
+     * Copia normalizada del producto; además el fragmento debe seguir describiéndolo aunque el original
+     * se modifique.
+     */
+    private static ProductoResponse normalizado(ProductoResponse producto) {
+        return ProductoResponse.builder()
+                .id(producto.getId())
+                .nombre(producto.getNombre())
+                .descripcion(producto.getDescripcion())
+                .precio(precio(producto.getPrecio()))
+                .fechaCreacion(fecha(producto.getFechaCreacion()))
+                .fechaActualizacion(fecha(producto.getFechaActualizacion()))
+                .version(producto.getVersion())
+                .build();
+    }
+
+    private static BigDecimal precio(BigDecimal precio) {
+        return precio != null ? precio.setScale(ESCALA_PRECIO, RoundingMode.HALF_UP) : null;
+    }
+
+    private static LocalDateTime fecha(LocalDateTime fecha) {
+        return fecha != null ? fecha.truncatedTo(ChronoUnit.MICROS) : null;
+    }
+
+    /**
+     * Serializador de ProductoResponse que reutiliza el fragmento en caché o, si no existe o el
+     * producto cambió, lo genera con el serializador estándar de Jackson.
+     */
+    private final class Serializador extends StdSerializer<ProductoResponse>
+            implements ContextualSerializer, ResolvableSerializer {
+
+        private final JsonFactory fabrica;
+        private final JsonSerializer<Object> estandar;
+
+        Serializador(JsonFactory fabrica, JsonSerializer<Object> estandar) {
+            super(ProductoResponse.class);
+            this.fabrica = fabrica;
+            this.estandar = estandar;
+        }
+
+        @Override
+        public void serialize(ProductoResponse producto, JsonGenerator generador, SerializerProvider provider)
+                throws IOException {
+            if (producto.getId() == null || !Boolean.TRUE.equals(provider.getAttribute(ATRIBUTO_HABILITADO))) {
+                estandar.serialize(producto, generador, provider);
+                return;
+            }
+            Fragmento fragmento = fragmentos.getIfPresent(producto.getId());
+            if (fragmento == null || !fragmento.describe(producto)) {
+                ProductoResponse copia = normalizado(producto);
+                fragmento = new Fragmento(copia, generar(copia, provider));
+                fragmentos.put(producto.getId(), fragmento);
+            }
+            generador.writeRawValue(fragmento.json);
+        }
+
+        private String generar(ProductoResponse producto, SerializerProvider provider) throws IOException {
+            StringWriter json = new StringWriter(512);
+            try (JsonGenerator generador = fabrica.createGenerator(json)) {
+                provider.getConfig().initialize(generador);
+                estandar.serialize(producto, generador, provider);
+            }
+            return json.toString();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (!(estandar instanceof ContextualSerializer)) {
+                return this;
+            }
+            JsonSerializer<?> contextual = ((ContextualSerializer) estandar).createContextual(provider, property);
+            return contextual == estandar ? this : new Serializador(fabrica, (JsonSerializer<Object>) contextual);
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (estandar instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) estandar).resolve(provider);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.universidad.crud.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Configuración de la caché de segundo nivel y de consultas de Hibernate (JCache sobre Caffeine).
+ * Las regiones se crean aquí con tamaño y expiración configurables por perfil mediante las
+ * propiedades productos.cache.hibernate.*; las estadísticas se publican como métricas
+ * hibernate.second.level.cache.* y hibernate.query.cache.*.
+ * La caché de consultas solo guarda las consultas de lectura marcadas con la sugerencia
+ * org.hibernate.cacheable; cualquier escritura en la tabla invalida sus resultados.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Región de la entidad Producto.
+     */
+    public static final String REGION_PRODUCTO = "producto";
+
+    /**
+     * Región de los resultados de las consultas cacheables.
+     */
+    public static final String REGION_CONSULTAS = "default-query-results-region";
+
+    /**
+     * Región con la última modificación de cada tabla, usada para invalidar los resultados de consultas.
+     */
+    public static final String REGION_TIMESTAMPS = "default-update-timestamps-region";
+
+    /**
+     * Administrador JCache exclusivo de Hibernate con las regiones configuradas.
+     * 
+     * @param tamanioEntidades Cantidad máxima de productos en caché
+     * @param expiracionEntidades Tiempo de vida de cada producto en caché
+     * @param tamanioConsultas Cantidad máxima de resultados de consultas en caché
+     * @param expiracionConsultas Tiempo de vida de cada resultado de consulta
+     * @return Administrador de cachés JCache
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${productos.cache.hibernate.entidades.tamanio-maximo:10000}") long tamanioEntidades,
+            @Value("${productos.cache.hibernate.entidades.expiracion:10m}") Duration expiracionEntidades,
+            @Value("${productos.cache.hibernate.consultas.tamanio-maximo:1000}") long tamanioConsultas,
+            @Value("${productos.cache.hibernate.consultas.expiracion:5m}") Duration expiracionConsultas) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-productos"), getClass().getClassLoader());
+
+        cacheManager.createCache(REGION_PRODUCTO, region(tamanioEntidades, expiracionEntidades));
+        cacheManager.createCache(REGION_CONSULTAS, region(tamanioConsultas, expiracionConsultas));
+        // Sin límite ni expiración: si se descarta la marca de una tabla, sus consultas en caché dejan de poder validarse
+        cacheManager.createCache(REGION_TIMESTAMPS, region(null, null));
+        return cacheManager;
+    }
+
+    /**
+     * Entrega a Hibernate el administrador JCache con las regiones ya creadas.
+     * 
+     * @param hibernateCacheManager Administrador de cachés de Hibernate
+     * @return Personalizador de las propiedades de Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return propiedades -> propiedades.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Long tamanioMaximo, Duration expiracion) {
+        CaffeineConfiguration<Object, Object> configuracion = new CaffeineConfiguration<>();
+        if (tamanioMaximo != null) {
+            configuracion.setMaximumSize(OptionalLong.of(tamanioMaximo));
+        }
+        if (expiracion != null) {
+            configuracion.setExpireAfterWrite(OptionalLong.of(expiracion.toNanos()));
+        }
+        configuracion.setStatisticsEnabled(true);
+        return configuracion;
+    }
+}
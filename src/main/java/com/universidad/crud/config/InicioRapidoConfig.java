@@ -0,0 +1,32 @@
+package com.universidad.crud.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+/**
+ * Configuración del perfil "rapido". Con la inicialización diferida habilitada, el
+ * DataSource y el EntityManagerFactory se siguen creando al iniciar: así el arranque de
+ * Hibernate ocurre en segundo plano (repositorios en modo deferred) y no en la primera petición.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("rapido")
+public class InicioRapidoConfig {
+
+    /**
+     * Excluye de la inicialización diferida los beans de acceso a datos.
+     * 
+     * @return Filtro de exclusión por tipo de bean
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter accesoDatosNoDiferido() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class);
+    }
+}
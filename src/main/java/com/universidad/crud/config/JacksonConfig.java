@@ -0,0 +1,88 @@
+package com.universidad.crud.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuración de la serialización JSON y de los formatos binarios. Spring Boot registra los
+ * módulos declarados aquí en el ObjectMapper de la aplicación.
+ * Además de JSON (formato por defecto), la API lee y escribe Smile (application/x-jackson-smile)
+ * y CBOR (application/cbor) según las cabeceras Accept y Content-Type, para las llamadas entre
+ * servicios. Ambos usan la misma configuración de Jackson que JSON (spring.jackson.* y módulos),
+ * de modo que solo cambia la codificación y no los campos ni el formato de las fechas.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Módulo que escribe los productos a partir de su fragmento JSON en caché.
+     * 
+     * @param fragmentosJson Caché de fragmentos JSON de productos
+     * @return Módulo de Jackson
+     */
+    @Bean
+    public Module fragmentosJsonModule(FragmentosJson fragmentosJson) {
+        return fragmentosJson.modulo();
+    }
+
+    /**
+     * Conversor de JSON que usa los fragmentos en caché solo para las respuestas de un producto y de los
+     * listados de productos, con una copia del ObjectMapper de la aplicación.
+     * Reemplaza al que registra Spring Boot; los demás tipos se escriben con el ObjectMapper de la aplicación.
+     * 
+     * @param objectMapper ObjectMapper configurado por Spring Boot
+     * @param fragmentosJson Caché de fragmentos JSON de productos
+     * @return Conversor para application/json
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   FragmentosJson fragmentosJson) {
+        MappingJackson2HttpMessageConverter conversor = new MappingJackson2HttpMessageConverter(objectMapper);
+        ObjectMapper conFragmentos = fragmentosJson.habilitar(objectMapper.copy());
+        for (Class<?> tipo : FragmentosJson.TIPOS_RESPUESTA) {
+            conversor.registerObjectMappersForType(tipo, mappers -> {
+                mappers.put(MediaType.APPLICATION_JSON, conFragmentos);
+                // Los flujos NDJSON escriben cada elemento con este conversor y el tipo de la respuesta
+                mappers.put(MediaType.APPLICATION_NDJSON, conFragmentos);
+                mappers.put(new MediaType("application", "*+json"), objectMapper);
+            });
+        }
+        return conversor;
+    }
+
+    /**
+     * Conversor de Smile, la codificación binaria de JSON de Jackson.
+     * Reemplaza al que Spring MVC registra por defecto, que no aplica la configuración de Spring Boot.
+     * 
+     * @param builder Constructor de ObjectMapper configurado por Spring Boot
+     * @return Conversor para application/x-jackson-smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Conversor de CBOR (RFC 8949).
+     * Reemplaza al que Spring MVC registra por defecto, que no aplica la configuración de Spring Boot.
+     * 
+     * @param builder Constructor de ObjectMapper configurado por Spring Boot
+     * @return Conversor para application/cbor
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
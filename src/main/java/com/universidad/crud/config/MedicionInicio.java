@@ -0,0 +1,57 @@
+package com.universidad.crud.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * Registra el tiempo de inicio de la aplicación: el tiempo hasta que el contexto está listo
+ * y el tiempo total desde el arranque de la JVM, indicando si se usa un archivo CDS.
+ * Con productos.inicio.salir-al-iniciar=true la aplicación termina al quedar lista; el perfil
+ * Maven "cds" lo usa para generar el archivo CDS y medir el inicio durante la construcción.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class MedicionInicio {
+
+    private final boolean salirAlIniciar;
+
+    public MedicionInicio(@Value("${productos.inicio.salir-al-iniciar:false}") boolean salirAlIniciar) {
+        this.salirAlIniciar = salirAlIniciar;
+    }
+
+    /**
+     * Registra los tiempos de inicio y, si está configurado, cierra la aplicación.
+     * 
+     * @param evento Evento de aplicación lista
+     */
+    @EventListener
+    public void alIniciar(ApplicationReadyEvent evento) {
+        Duration contexto = evento.getTimeTaken();
+        long jvm = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Inicio: aplicación lista en {} ms ({} ms desde el arranque de la JVM), archivo CDS: {}",
+                contexto != null ? contexto.toMillis() : -1, jvm, archivoCds());
+
+        if (salirAlIniciar) {
+            log.info("productos.inicio.salir-al-iniciar=true: cerrando la aplicación");
+            System.exit(SpringApplication.exit(evento.getApplicationContext()));
+        }
+    }
+
+    private static String archivoCds() {
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argumento -> argumento.startsWith("-XX:SharedArchiveFile=")
+                        || argumento.startsWith("-XX:ArchiveClassesAtExit="))
+                .findFirst()
+                .orElse("ninguno");
+    }
+}
@@ -0,0 +1,87 @@
+package com.universidad.crud.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propiedades de las réplicas de lectura (productos.datasource.replicas.*), usadas con el perfil "replicas".
+ * Cada réplica hereda la configuración del pool de la primaria (spring.datasource.hikari.*),
+ * incluidos el usuario y la contraseña si no se indican.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+public class PropiedadesReplicas {
+
+    /**
+     * Réplicas de lectura disponibles.
+     */
+    private List<Nodo> nodos = new ArrayList<>();
+
+    /**
+     * Criterio para elegir la réplica de cada transacción de solo lectura.
+     */
+    private Seleccion seleccion = Seleccion.ROUND_ROBIN;
+
+    /**
+     * Retraso de replicación tolerado; una réplica más atrasada deja de recibir lecturas.
+     */
+    private Duration retrasoMaximo = Duration.ofSeconds(2);
+
+    /**
+     * Intervalo entre latidos de replicación (escritura en la primaria y lectura en cada réplica).
+     */
+    private Duration intervaloVerificacion = Duration.ofSeconds(1);
+
+    /**
+     * Criterios de selección de réplicas.
+     */
+    public enum Seleccion {
+
+        /**
+         * Las réplicas disponibles se turnan en orden.
+         */
+        ROUND_ROBIN,
+
+        /**
+         * Se elige la réplica disponible con menos conexiones activas en su pool.
+         */
+        MENOS_CONEXIONES
+    }
+
+    /**
+     * Conexión a una réplica de lectura.
+     */
+    @Data
+    public static class Nodo {
+
+        /**
+         * Nombre de la réplica en los logs y métricas (por defecto replica-N).
+         */
+        private String nombre;
+
+        /**
+         * URL JDBC de la réplica.
+         */
+        private String url;
+
+        /**
+         * Usuario (por defecto el de la primaria).
+         */
+        private String username;
+
+        /**
+         * Contraseña (por defecto la de la primaria).
+         */
+        private String password;
+
+        /**
+         * Tamaño máximo del pool de la réplica (por defecto el de la primaria).
+         */
+        private Integer maximoConexiones;
+    }
+}
@@ -0,0 +1,50 @@
+package com.universidad.crud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuración del perfil reactivo.
+ * Spring Boot omite la configuración automática del DataSource JDBC cuando existe una
+ * ConnectionFactory de R2DBC, por lo que aquí se declara explícitamente con las mismas
+ * propiedades spring.datasource.* para que JPA siga atendiendo las escrituras
+ * (con el perfil "replicas", el DataSource lo declara {@link ReplicasConfig}).
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("reactivo")
+public class ReactivoConfig {
+
+    /**
+     * Propiedades de conexión JDBC (spring.datasource.*).
+     * 
+     * @return Propiedades del DataSource
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * DataSource JDBC con pool Hikari (spring.datasource.hikari.*) usado por JPA.
+     * 
+     * @param properties Propiedades de conexión JDBC
+     * @return DataSource de la aplicación
+     */
+    @Bean
+    @Primary
+    @Profile("!replicas")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
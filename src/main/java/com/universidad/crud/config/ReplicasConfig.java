@@ -0,0 +1,89 @@
+package com.universidad.crud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuración del perfil "replicas".
+ * Las transacciones de solo lectura se atienden en las réplicas de lectura
+ * (productos.datasource.replicas.*) y las escrituras y las migraciones en la primaria (spring.datasource.*).
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("replicas")
+@Slf4j
+public class ReplicasConfig {
+
+    /**
+     * Propiedades de las réplicas de lectura.
+     *
+     * @return Propiedades de las réplicas
+     */
+    @Bean
+    @ConfigurationProperties("productos.datasource.replicas")
+    public PropiedadesReplicas propiedadesReplicas() {
+        return new PropiedadesReplicas();
+    }
+
+    /**
+     * Pool de conexiones de la primaria (spring.datasource.hikari.*), donde se aplican las migraciones.
+     *
+     * @param properties Propiedades de conexión JDBC
+     * @return DataSource de la primaria
+     */
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * DataSource que enruta las conexiones entre la primaria y las réplicas.
+     *
+     * @param dataSourcePrimaria Pool de la primaria
+     * @param propiedades Propiedades de las réplicas
+     * @param margenCambios Margen de consistencia del flujo de cambios
+     * @return DataSource enrutado
+     */
+    @Bean
+    public DataSourceReplicas dataSourceReplicas(HikariDataSource dataSourcePrimaria,
+                                                 PropiedadesReplicas propiedades,
+                                                 @Value("${productos.cambios.margen-consistencia:2s}") Duration margenCambios) {
+        // El retraso medido puede quedar hasta un intervalo por detrás del real
+        Duration retrasoPosible = propiedades.getRetrasoMaximo().plus(propiedades.getIntervaloVerificacion());
+        if (margenCambios.compareTo(retrasoPosible) < 0) {
+            log.warn("productos.cambios.margen-consistencia ({} ms) es menor que el retraso posible de las réplicas " +
+                            "({} ms): el flujo de cambios podría omitir cambios aún no replicados",
+                    margenCambios.toMillis(), retrasoPosible.toMillis());
+        }
+        return new DataSourceReplicas(dataSourcePrimaria, propiedades);
+    }
+
+    /**
+     * DataSource de la aplicación. Obtiene la conexión real en la primera sentencia, cuando
+     * ya se conoce si la transacción es de solo lectura.
+     *
+     * @param dataSourceReplicas DataSource enrutado
+     * @return DataSource usado por JPA
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceReplicas dataSourceReplicas) {
+        return new LazyConnectionDataSourceProxy(dataSourceReplicas);
+    }
+}
@@ -0,0 +1,152 @@
+package com.universidad.crud.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+
+/**
+ * Hace efectivo el umbral de compresión (server.compression.min-response-size).
+ * Tomcat solo aplica el umbral si conoce el tamaño de la respuesta al enviar las cabeceras, pero los
+ * conversores de Spring vacían la salida al terminar de escribir el cuerpo y la respuesta se envía
+ * sin Content-Length, por lo que se comprimiría aunque ocupe unos pocos bytes.
+ * Este filtro aplaza esos vaciados en las respuestas de la API de productos mientras el cuerpo escrito
+ * sea menor que el umbral: si la respuesta termina por debajo de él, se envía al terminar la petición
+ * con su Content-Length y sin comprimir. Cuando el cuerpo alcanza el umbral la respuesta se comprimirá
+ * de todos modos y los vaciados se ejecutan normalmente. La exportación NDJSON y los eventos SSE, que
+ * dependen de los vaciados para entregar los datos a medida que se escriben, no pasan por el filtro,
+ * y tampoco las respuestas que ya están en modo asíncrono.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class UmbralCompresionFilter extends OncePerRequestFilter {
+
+    private static final String RUTA_PRODUCTOS = "/api/v1/productos";
+
+    /**
+     * Respuestas en flujo, que se vacían sin aplazar.
+     */
+    private static final String RUTA_EXPORTACION = RUTA_PRODUCTOS + "/export";
+    private static final String RUTA_EVENTOS = RUTA_PRODUCTOS + "/eventos";
+
+    private final long umbral;
+
+    public UmbralCompresionFilter(@Value("${server.compression.min-response-size:2KB}") DataSize umbral) {
+        this.umbral = umbral.toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String ruta = request.getRequestURI().substring(request.getContextPath().length());
+        boolean productos = ruta.equals(RUTA_PRODUCTOS) || ruta.startsWith(RUTA_PRODUCTOS + "/");
+        return !productos || ruta.startsWith(RUTA_EXPORTACION) || ruta.startsWith(RUTA_EVENTOS);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Las respuestas de los controladores asíncronos se escriben en el despacho asíncrono
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, new RespuestaConUmbral(request, response, umbral));
+    }
+
+    /**
+     * Respuesta que aplaza los vaciados mientras el cuerpo escrito sea menor que el umbral y la petición
+     * no esté en modo asíncrono.
+     */
+    private static final class RespuestaConUmbral extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private final long umbral;
+        private long escritos;
+        private ServletOutputStream salida;
+
+        RespuestaConUmbral(HttpServletRequest request, HttpServletResponse response, long umbral) {
+            super(response);
+            this.request = request;
+            this.umbral = umbral;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (salida == null) {
+                salida = new Salida(super.getOutputStream());
+            }
+            return salida;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (vaciar()) {
+                super.flushBuffer();
+            }
+        }
+
+        /**
+         * Un vaciado solo se aplaza si todavía puede enviarse la respuesta completa sin comprimir.
+         */
+        private boolean vaciar() {
+            return escritos >= umbral || request.isAsyncStarted();
+        }
+
+        private final class Salida extends ServletOutputStream {
+
+            private final ServletOutputStream destino;
+
+            Salida(ServletOutputStream destino) {
+                this.destino = destino;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                destino.write(b);
+                escritos++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                destino.write(b, off, len);
+                escritos += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (vaciar()) {
+                    destino.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                destino.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return destino.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                destino.setWriteListener(writeListener);
+            }
+        }
+    }
+}
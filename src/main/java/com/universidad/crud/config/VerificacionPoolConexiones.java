@@ -0,0 +1,84 @@
+package com.universidad.crud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Verifica al iniciar que el pool de conexiones sea suficiente para los hilos que pueden
+ * solicitar una conexión al mismo tiempo: los hilos de Tomcat o, con el modo asíncrono
+ * habilitado, los hilos del pool de base de datos. Si hay demasiados hilos por conexión,
+ * las peticiones esperan en el pool hasta agotar spring.datasource.hikari.connection-timeout.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class VerificacionPoolConexiones {
+
+    private final DataSource dataSource;
+    private final ServerProperties serverProperties;
+    private final boolean asyncHabilitado;
+    private final int hilosAsync;
+    private final int hilosPorConexionMaximo;
+
+    public VerificacionPoolConexiones(DataSource dataSource,
+                                      ServerProperties serverProperties,
+                                      @Value("${productos.async.habilitado:false}") boolean asyncHabilitado,
+                                      @Value("${productos.async.hilos:${spring.datasource.hikari.maximum-pool-size:10}}") int hilosAsync,
+                                      @Value("${productos.datasource.hilos-por-conexion-maximo:4}") int hilosPorConexionMaximo) {
+        this.dataSource = dataSource;
+        this.serverProperties = serverProperties;
+        this.asyncHabilitado = asyncHabilitado;
+        this.hilosAsync = hilosAsync;
+        this.hilosPorConexionMaximo = hilosPorConexionMaximo;
+    }
+
+    /**
+     * Compara el tamaño del pool con la cantidad de hilos configurados y registra una advertencia
+     * si el pool es demasiado pequeño.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verificar() {
+        HikariDataSource hikari = hikari();
+        if (hikari == null) {
+            log.debug("El DataSource no es un pool Hikari; se omite la verificación del pool");
+            return;
+        }
+        int conexiones = hikari.getMaximumPoolSize();
+        int hilosTomcat = serverProperties.getTomcat().getThreads().getMax();
+        int hilos = asyncHabilitado ? hilosAsync : hilosTomcat;
+        String origen = asyncHabilitado ? "productos.async.hilos" : "server.tomcat.threads.max";
+
+        log.info("Pool de conexiones '{}': {} conexiones para {} hilos ({}), {} hilos de Tomcat",
+                hikari.getPoolName(), conexiones, hilos, origen, hilosTomcat);
+
+        if (hilos > conexiones * hilosPorConexionMaximo) {
+            log.warn("El pool de conexiones '{}' ({} conexiones) es pequeño para {} hilos ({}): más de {} hilos por " +
+                            "conexión. Bajo carga las peticiones esperarán hasta {} ms por una conexión; aumente " +
+                            "spring.datasource.hikari.maximum-pool-size, reduzca {} o habilite productos.async.habilitado",
+                    hikari.getPoolName(), conexiones, hilos, origen, hilosPorConexionMaximo,
+                    hikari.getConnectionTimeout(), origen);
+        }
+        if (asyncHabilitado && hilosAsync > conexiones) {
+            log.warn("productos.async.hilos ({}) supera el tamaño del pool de conexiones ({}): los hilos adicionales " +
+                    "solo esperarán una conexión", hilosAsync, conexiones);
+        }
+    }
+
+    private HikariDataSource hikari() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
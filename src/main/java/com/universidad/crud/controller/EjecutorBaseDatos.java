@@ -0,0 +1,72 @@
+package com.universidad.crud.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta las operaciones de base de datos de los controladores.
+ * Con el modo asíncrono habilitado, las operaciones se ejecutan en un pool acotado al tamaño del pool
+ * de conexiones y el hilo de Tomcat queda libre mientras se espera a la base de datos; las peticiones
+ * en exceso esperan en una cola acotada y, si esta se llena, se rechazan (503) en lugar de agotar
+ * los hilos del servidor. Con el modo deshabilitado, la operación se ejecuta en el hilo de la petición.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class EjecutorBaseDatos implements DisposableBean {
+
+    private final ExecutorService ejecutor;
+
+    public EjecutorBaseDatos(@Value("${productos.async.habilitado:false}") boolean habilitado,
+                             @Value("${productos.async.hilos:${spring.datasource.hikari.maximum-pool-size:10}}") int hilos,
+                             @Value("${productos.async.capacidad-cola:1000}") int capacidadCola,
+                             MeterRegistry meterRegistry) {
+        if (!habilitado) {
+            this.ejecutor = null;
+            return;
+        }
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola), new CustomizableThreadFactory("bd-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.ejecutor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "productos.bd");
+        log.info("Modo asíncrono habilitado: {} hilos de base de datos, cola de {} tareas", hilos, capacidadCola);
+    }
+
+    /**
+     * Ejecuta la operación en el pool de base de datos, o en el hilo actual si el modo asíncrono
+     * está deshabilitado (en ese caso el resultado ya está completo y las excepciones se propagan
+     * directamente).
+     * 
+     * @param operacion Operación a ejecutar
+     * @return Resultado de la operación
+     * @throws java.util.concurrent.RejectedExecutionException si la cola de espera está llena
+     */
+    public <T> CompletableFuture<T> ejecutar(Supplier<T> operacion) {
+        if (ejecutor == null) {
+            return CompletableFuture.completedFuture(operacion.get());
+        }
+        return CompletableFuture.supplyAsync(operacion, ejecutor);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (ejecutor != null) {
+            ejecutor.shutdown();
+            ejecutor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+}
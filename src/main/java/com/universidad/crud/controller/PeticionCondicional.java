@@ -0,0 +1,157 @@
+package com.universidad.crud.controller;
+
+import com.universidad.crud.dto.MarcaVersion;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.exception.ConflictException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resuelve las peticiones GET condicionales (If-None-Match / If-Modified-Since).
+ * La comparación se hace contra la marca de versión del recurso, de modo que cuando el cliente
+ * ya tiene la representación vigente se responde 304 sin cargar ni serializar el recurso.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+final class PeticionCondicional {
+
+    private PeticionCondicional() {
+    }
+
+    /**
+     * Responde 304 si la representación del cliente sigue vigente; en caso contrario obtiene el
+     * cuerpo y lo retorna con las cabeceras ETag y Last-Modified.
+     * 
+     * @param peticion Cabeceras de la petición
+     * @param marca Marca de versión actual del recurso
+     * @param variante Parámetros que alteran la representación (null si no aplica)
+     * @param cuerpo Proveedor del cuerpo de la respuesta, invocado solo si es necesario
+     * @return Respuesta 304 sin cuerpo o 200 con el cuerpo obtenido
+     */
+    static <T> ResponseEntity<T> responder(HttpHeaders peticion, MarcaVersion marca,
+                                           Object[] variante, Supplier<T> cuerpo) {
+        String etag = etag(marca, variante);
+        long ultimaModificacion = milisegundos(marca.getUltimaModificacion());
+
+        if (noModificado(peticion, etag, ultimaModificacion)) {
+            return conCabeceras(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, ultimaModificacion).build();
+        }
+        return conCabeceras(ResponseEntity.ok(), etag, ultimaModificacion).body(cuerpo.get());
+    }
+
+    /**
+     * Igual que {@link #responder(HttpHeaders, MarcaVersion, Object[], Supplier)}, pero la marca solo se
+     * consulta si la petición es condicional; en caso contrario se obtiene del cuerpo ya cargado.
+     * 
+     * @param peticion Cabeceras de la petición
+     * @param marca Proveedor de la marca de versión actual del recurso
+     * @param cuerpo Proveedor del cuerpo de la respuesta, invocado solo si es necesario
+     * @param marcaDe Función que obtiene la marca de versión del cuerpo
+     * @return Respuesta 304 sin cuerpo o 200 con el cuerpo obtenido
+     */
+    static <T> ResponseEntity<T> responder(HttpHeaders peticion, Supplier<MarcaVersion> marca,
+                                           Supplier<T> cuerpo, Function<T, MarcaVersion> marcaDe) {
+        if (esCondicional(peticion)) {
+            return responder(peticion, marca.get(), null, cuerpo);
+        }
+        T valor = cuerpo.get();
+        MarcaVersion marcaValor = marcaDe.apply(valor);
+        return conCabeceras(ResponseEntity.ok(), etag(marcaValor, null),
+                milisegundos(marcaValor.getUltimaModificacion())).body(valor);
+    }
+
+    /**
+     * Construye un ETag fuerte a partir de la marca de versión y de los parámetros de la representación.
+     * 
+     * @param marca Marca de versión del recurso
+     * @param variante Parámetros que alteran la representación (null si no aplica)
+     * @return ETag entre comillas
+     */
+    static String etag(MarcaVersion marca, Object[] variante) {
+        if (variante == null) {
+            return "\"" + marca.getValor() + "\"";
+        }
+        return "\"" + marca.getValor() + "-" + Integer.toHexString(Arrays.hashCode(variante)) + "\"";
+    }
+
+    /**
+     * Construye el ETag de la versión de un producto.
+     * 
+     * @param producto Producto
+     * @return ETag fuerte
+     */
+    static String etag(ProductoResponse producto) {
+        return etag(MarcaVersion.deProducto(producto), null);
+    }
+
+    /**
+     * Obtiene la versión esperada de un producto a partir de la cabecera If-Match.
+     * If-Match usa la comparación fuerte (RFC 7232), por lo que un ETag débil no corresponde a ninguna versión.
+     * 
+     * @param id Identificador del producto
+     * @param ifMatch Valor de la cabecera If-Match (puede ser null)
+     * @return Versión esperada, o null si no se exige una versión concreta
+     * @throws ConflictException si el ETag no corresponde a ninguna versión del producto
+     */
+    static Long versionEsperada(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Long version = MarcaVersion.versionDeProducto(id, ifMatch);
+        if (version == null) {
+            throw new ConflictException("El ETag de If-Match no corresponde a una versión del producto con id '" + id + "'");
+        }
+        return version;
+    }
+
+    private static boolean esCondicional(HttpHeaders peticion) {
+        return peticion.containsKey(HttpHeaders.IF_NONE_MATCH) || peticion.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    /**
+     * If-None-Match tiene prioridad; If-Modified-Since solo se evalúa cuando no se envía un ETag.
+     */
+    private static boolean noModificado(HttpHeaders peticion, String etag, long ultimaModificacion) {
+        List<String> etags = peticion.getIfNoneMatch();
+        if (!etags.isEmpty()) {
+            for (String candidato : etags) {
+                // Comparación débil (RFC 7232): se ignora el prefijo W/ del ETag recibido
+                if ("*".equals(candidato) || Objects.equals(sinPrefijoDebil(candidato), etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long desde = peticion.getIfModifiedSince();
+        // Last-Modified tiene precisión de segundos
+        return desde >= 0 && ultimaModificacion > 0 && ultimaModificacion / 1000 <= desde / 1000;
+    }
+
+    private static ResponseEntity.BodyBuilder conCabeceras(ResponseEntity.BodyBuilder builder,
+                                                           String etag, long ultimaModificacion) {
+        // La representación depende del formato negociado con la cabecera Accept
+        builder.eTag(etag).varyBy(HttpHeaders.ACCEPT);
+        if (ultimaModificacion > 0) {
+            builder.lastModified(ultimaModificacion);
+        }
+        return builder;
+    }
+
+    private static String sinPrefijoDebil(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long milisegundos(LocalDateTime fecha) {
+        return fecha != null ? fecha.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+}
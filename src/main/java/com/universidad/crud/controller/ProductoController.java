@@ -1,8 +1,22 @@
 package com.universidad.crud.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.universidad.crud.dto.CambiosResponse;
+import com.universidad.crud.dto.MarcaVersion;
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoActualizacionRequest;
+import com.universidad.crud.dto.ProductoPatchRequest;
 import com.universidad.crud.dto.ProductoRequest;
 import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductosPorIdResponse;
+import com.universidad.crud.dto.ResultadoLoteResponse;
+import com.universidad.crud.dto.VistaProducto;
+import com.universidad.crud.exception.BadRequestException;
 import com.universidad.crud.service.ProductoService;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,11 +27,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controlador REST para la gestión de productos.
@@ -31,30 +54,134 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Productos", description = "API para la gestión de productos - Operaciones CRUD")
-@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE})
+@Timed(value = "productos.api", description = "Latencia de las operaciones de la API de productos",
+        percentiles = {0.5, 0.95, 0.99}, histogram = true)
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.PATCH,
+        RequestMethod.DELETE}, exposedHeaders = {HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED})
 public class ProductoController {
 
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final ProductoService productoService;
+    private final ObjectMapper objectMapper;
+    private final EjecutorBaseDatos ejecutorBaseDatos;
 
     /**
-     * Obtiene la lista de todos los productos.
+     * Obtiene una página de productos utilizando paginación por cursor.
      * 
-     * @return Lista de productos
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Cantidad máxima de productos por página (opcional)
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Página de productos con el cursor de la siguiente página
      */
     @Operation(
-        summary = "Obtener todos los productos",
-        description = "Retorna una lista con todos los productos registrados en el sistema"
+        summary = "Obtener productos paginados",
+        description = "Retorna una página de productos ordenada por ID. Para obtener la siguiente página " +
+                "se debe enviar el valor de 'siguienteCursor' recibido en la respuesta anterior"
     )
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de productos obtenida exitosamente",
+        @ApiResponse(responseCode = "200", description = "Página de productos obtenida exitosamente",
             content = @Content(mediaType = "application/json", 
-            schema = @Schema(implementation = ProductoResponse.class)))
+            schema = @Schema(implementation = PaginaResponse.class))),
+        @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado desde la versión indicada",
+            content = @Content),
+        @ApiResponse(responseCode = "400", description = "Cursor, límite o vista inválida",
+            content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<ProductoResponse>> obtenerTodos() {
-        log.info("GET /api/v1/productos - Obteniendo todos los productos");
-        List<ProductoResponse> productos = productoService.obtenerTodos();
-        return ResponseEntity.ok(productos);
+    public CompletableFuture<ResponseEntity<PaginaResponse<?>>> obtenerTodos(
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de productos por página")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista,
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
+        log.info("GET /api/v1/productos - Obteniendo página de productos");
+        VistaProducto vistaProducto = VistaProducto.desde(vista);
+        return ejecutorBaseDatos.ejecutar(() -> PeticionCondicional.responder(headers,
+                productoService.obtenerMarcaVersionCatalogo(),
+                new Object[] {"pagina", cursor, limite, vistaProducto},
+                () -> vistaProducto == VistaProducto.RESUMEN
+                        ? productoService.obtenerPaginaResumen(cursor, limite)
+                        : productoService.obtenerPagina(cursor, limite)));
+    }
+
+    /**
+     * Obtiene varios productos por ID en una sola petición.
+     * 
+     * @param ids Identificadores de los productos (separados por comas o repetidos)
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Productos encontrados en el orden solicitado e IDs inexistentes
+     */
+    @Operation(
+        summary = "Obtener varios productos por ID",
+        description = "Retorna los productos con los IDs indicados (por ejemplo ?ids=1,2,3) en el orden " +
+                "solicitado, sin repetidos, con una sola consulta a la base de datos. Los IDs inexistentes " +
+                "se informan en 'noEncontrados' en lugar de producir un error 404"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Productos obtenidos exitosamente",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductosPorIdResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Sin IDs, demasiados IDs, ID o vista inválida",
+            content = @Content)
+    })
+    @GetMapping(params = "ids")
+    public CompletableFuture<ResponseEntity<ProductosPorIdResponse<?>>> obtenerPorIds(
+            @Parameter(description = "IDs de los productos, separados por comas", required = true)
+            @RequestParam List<Long> ids,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista) {
+        log.info("GET /api/v1/productos?ids - Obteniendo {} productos por ID", ids.size());
+        VistaProducto vistaProducto = VistaProducto.desde(vista);
+        return ejecutorBaseDatos.ejecutar(() -> ResponseEntity.ok(vistaProducto == VistaProducto.RESUMEN
+                ? productoService.obtenerResumenPorIds(ids)
+                : productoService.obtenerPorIds(ids)));
+    }
+
+    /**
+     * Exporta el catálogo completo en formato NDJSON (un producto JSON por línea).
+     * La respuesta se escribe en flujo a medida que se leen las filas, con uso de memoria constante.
+     * 
+     * @return Cuerpo de respuesta que escribe el catálogo en flujo
+     */
+    @Operation(
+        summary = "Exportar catálogo de productos",
+        description = "Retorna todos los productos en formato NDJSON, un objeto JSON por línea, " +
+                "escritos en flujo sin cargar el catálogo completo en memoria"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportación generada exitosamente",
+            content = @Content(mediaType = APPLICATION_NDJSON_VALUE,
+            schema = @Schema(implementation = ProductoResponse.class)))
+    })
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        log.info("GET /api/v1/productos/export - Exportando catálogo de productos");
+        ObjectWriter writer = objectMapper.writerFor(ProductoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody cuerpo = salida -> {
+            JsonGenerator generador = objectMapper.getFactory().createGenerator(salida);
+            generador.setRootValueSeparator(null);
+            try {
+                productoService.exportar(producto -> {
+                    try {
+                        writer.writeValue(generador, producto);
+                        generador.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            generador.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(cuerpo);
     }
 
     /**
@@ -71,16 +198,21 @@ public class ProductoController {
         @ApiResponse(responseCode = "200", description = "Producto encontrado exitosamente",
             content = @Content(mediaType = "application/json", 
             schema = @Schema(implementation = ProductoResponse.class))),
+        @ApiResponse(responseCode = "304", description = "El producto no ha cambiado desde la versión indicada",
+            content = @Content),
         @ApiResponse(responseCode = "404", description = "Producto no encontrado",
             content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ProductoResponse> obtenerPorId(
+    public CompletableFuture<ResponseEntity<ProductoResponse>> obtenerPorId(
             @Parameter(description = "ID del producto a buscar", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         log.info("GET /api/v1/productos/{} - Obteniendo producto por ID", id);
-        ProductoResponse producto = productoService.obtenerPorId(id);
-        return ResponseEntity.ok(producto);
+        return ejecutorBaseDatos.ejecutar(() -> PeticionCondicional.responder(headers,
+                () -> productoService.obtenerMarcaVersion(id), () -> productoService.obtenerPorId(id),
+                MarcaVersion::deProducto));
     }
 
     /**
@@ -101,12 +233,16 @@ public class ProductoController {
             content = @Content)
     })
     @PostMapping
-    public ResponseEntity<ProductoResponse> crear(
+    public CompletableFuture<ResponseEntity<ProductoResponse>> crear(
             @Parameter(description = "Datos del producto a crear", required = true)
             @Valid @RequestBody ProductoRequest request) {
         log.info("POST /api/v1/productos - Creando nuevo producto: {}", request.getNombre());
-        ProductoResponse productoCreado = productoService.crear(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(productoCreado);
+        return ejecutorBaseDatos.ejecutar(() -> {
+            ProductoResponse productoCreado = productoService.crear(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .eTag(PeticionCondicional.etag(productoCreado))
+                    .body(productoCreado);
+        });
     }
 
     /**
@@ -114,11 +250,13 @@ public class ProductoController {
      * 
      * @param id Identificador del producto a actualizar
      * @param request Nuevos datos del producto
+     * @param ifMatch ETag de la versión sobre la que se hicieron los cambios (opcional)
      * @return Producto actualizado
      */
     @Operation(
         summary = "Actualizar producto",
-        description = "Actualiza los datos de un producto existente identificado por su ID"
+        description = "Actualiza los datos de un producto existente identificado por su ID. Si se envía la " +
+                "cabecera If-Match y el producto cambió desde esa versión se responde 409"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Producto actualizado exitosamente",
@@ -127,17 +265,69 @@ public class ProductoController {
         @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos",
             content = @Content),
         @ApiResponse(responseCode = "404", description = "Producto no encontrado",
+            content = @Content),
+        @ApiResponse(responseCode = "409", description = "El producto fue modificado por otra petición",
             content = @Content)
     })
     @PutMapping("/{id}")
-    public ResponseEntity<ProductoResponse> actualizar(
+    public CompletableFuture<ResponseEntity<ProductoResponse>> actualizar(
             @Parameter(description = "ID del producto a actualizar", required = true)
             @PathVariable Long id,
             @Parameter(description = "Nuevos datos del producto", required = true)
-            @Valid @RequestBody ProductoRequest request) {
+            @Valid @RequestBody ProductoRequest request,
+            @Parameter(description = "ETag de la versión sobre la que se hicieron los cambios")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/productos/{} - Actualizando producto", id);
-        ProductoResponse productoActualizado = productoService.actualizar(id, request);
-        return ResponseEntity.ok(productoActualizado);
+        Long versionEsperada = PeticionCondicional.versionEsperada(id, ifMatch);
+        return ejecutorBaseDatos.ejecutar(() -> {
+            ProductoResponse productoActualizado = productoService.actualizar(id, versionEsperada, request);
+            return ResponseEntity.ok()
+                    .eTag(PeticionCondicional.etag(productoActualizado))
+                    .body(productoActualizado);
+        });
+    }
+
+    /**
+     * Actualiza parcialmente un producto existente.
+     * 
+     * @param id Identificador del producto a actualizar
+     * @param request Campos a modificar
+     * @param ifMatch ETag de la versión sobre la que se hicieron los cambios
+     * @return Respuesta sin contenido (204) con el ETag de la nueva versión
+     */
+    @Operation(
+        summary = "Actualizar parcialmente producto",
+        description = "Modifica solo los campos enviados con una única sentencia condicionada a la versión " +
+                "indicada en la cabecera If-Match. Si el producto cambió desde esa versión se responde 409"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Producto actualizado exitosamente"),
+        @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos o falta la cabecera If-Match",
+            content = @Content),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado",
+            content = @Content),
+        @ApiResponse(responseCode = "409", description = "El producto fue modificado por otra petición",
+            content = @Content)
+    })
+    @PatchMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> actualizarParcial(
+            @Parameter(description = "ID del producto a actualizar", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Campos del producto a modificar", required = true)
+            @Valid @RequestBody ProductoPatchRequest request,
+            @Parameter(description = "ETag de la versión sobre la que se hicieron los cambios", required = true)
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/productos/{} - Actualizando parcialmente producto", id);
+        Long versionEsperada = PeticionCondicional.versionEsperada(id, ifMatch);
+        if (versionEsperada == null) {
+            throw new BadRequestException("La cabecera If-Match con el ETag del producto es obligatoria");
+        }
+        return ejecutorBaseDatos.ejecutar(() -> {
+            MarcaVersion marca = productoService.actualizarParcial(id, versionEsperada, request);
+            return ResponseEntity.noContent()
+                    .eTag(PeticionCondicional.etag(marca, null))
+                    .build();
+        });
     }
 
     /**
@@ -156,36 +346,217 @@ public class ProductoController {
             content = @Content)
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> eliminar(
+    public CompletableFuture<ResponseEntity<Void>> eliminar(
             @Parameter(description = "ID del producto a eliminar", required = true)
             @PathVariable Long id) {
         log.info("DELETE /api/v1/productos/{} - Eliminando producto", id);
-        productoService.eliminar(id);
-        return ResponseEntity.noContent().build();
+        return ejecutorBaseDatos.ejecutar(() -> {
+            productoService.eliminar(id);
+            return ResponseEntity.noContent().build();
+        });
     }
 
     /**
      * Busca productos por nombre.
      * 
      * @param nombre Texto a buscar en el nombre
+     * @param limite Cantidad máxima de resultados (opcional)
+     * @param vista Campos a incluir en la respuesta (opcional)
      * @return Lista de productos que coinciden
      */
     @Operation(
         summary = "Buscar productos por nombre",
-        description = "Busca productos cuyo nombre contenga el texto especificado (búsqueda parcial)"
+        description = "Busca productos cuyo nombre contenga el texto especificado (búsqueda parcial). " +
+                "Los resultados se ordenan por relevancia: primero las coincidencias al inicio del nombre"
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente",
             content = @Content(mediaType = "application/json", 
-            schema = @Schema(implementation = ProductoResponse.class)))
+            schema = @Schema(implementation = ProductoResponse.class))),
+        @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado desde la versión indicada",
+            content = @Content),
+        @ApiResponse(responseCode = "400", description = "Límite o vista inválida",
+            content = @Content)
     })
     @GetMapping("/buscar")
-    public ResponseEntity<List<ProductoResponse>> buscarPorNombre(
+    public CompletableFuture<ResponseEntity<List<?>>> buscarPorNombre(
             @Parameter(description = "Nombre o parte del nombre a buscar", required = true)
-            @RequestParam String nombre) {
+            @RequestParam String nombre,
+            @Parameter(description = "Cantidad máxima de resultados")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista,
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
         log.info("GET /api/v1/productos/buscar?nombre={} - Buscando productos", nombre);
-        List<ProductoResponse> productos = productoService.buscarPorNombre(nombre);
-        return ResponseEntity.ok(productos);
+        VistaProducto vistaProducto = VistaProducto.desde(vista);
+        return ejecutorBaseDatos.ejecutar(() -> PeticionCondicional.responder(headers,
+                productoService.obtenerMarcaVersionCatalogo(),
+                new Object[] {"buscar", nombre, limite, vistaProducto},
+                () -> vistaProducto == VistaProducto.RESUMEN
+                        ? productoService.buscarResumenPorNombre(nombre, limite)
+                        : productoService.buscarPorNombre(nombre, limite)));
+    }
+
+    /**
+     * Busca productos dentro de un rango de precios utilizando paginación por cursor.
+     * 
+     * @param precioMin Precio mínimo del rango
+     * @param precioMax Precio máximo del rango
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Cantidad máxima de productos por página (opcional)
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Página de productos ordenada por precio
+     */
+    @Operation(
+        summary = "Buscar productos por rango de precio",
+        description = "Retorna una página de productos cuyo precio está dentro del rango indicado, " +
+                "ordenada por precio. Para obtener la siguiente página se debe enviar el valor de " +
+                "'siguienteCursor' recibido en la respuesta anterior"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = PaginaResponse.class))),
+        @ApiResponse(responseCode = "304", description = "El catálogo no ha cambiado desde la versión indicada",
+            content = @Content),
+        @ApiResponse(responseCode = "400", description = "Rango, cursor, límite o vista inválida",
+            content = @Content)
+    })
+    @GetMapping("/rango-precio")
+    public CompletableFuture<ResponseEntity<PaginaResponse<?>>> buscarPorRangoPrecio(
+            @Parameter(description = "Precio mínimo del rango", required = true)
+            @RequestParam BigDecimal precioMin,
+            @Parameter(description = "Precio máximo del rango", required = true)
+            @RequestParam BigDecimal precioMax,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de productos por página")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista,
+            @Parameter(hidden = true)
+            @RequestHeader HttpHeaders headers) {
+        log.info("GET /api/v1/productos/rango-precio?precioMin={}&precioMax={} - Buscando productos",
+                precioMin, precioMax);
+        VistaProducto vistaProducto = VistaProducto.desde(vista);
+        return ejecutorBaseDatos.ejecutar(() -> PeticionCondicional.responder(headers,
+                productoService.obtenerMarcaVersionCatalogo(),
+                new Object[] {"rango-precio", precioMin, precioMax, cursor, limite, vistaProducto},
+                () -> vistaProducto == VistaProducto.RESUMEN
+                        ? productoService.buscarResumenPorRangoPrecio(precioMin, precioMax, cursor, limite)
+                        : productoService.buscarPorRangoPrecio(precioMin, precioMax, cursor, limite)));
+    }
+
+    /**
+     * Obtiene los cambios del catálogo posteriores al cursor indicado (sincronización incremental).
+     * 
+     * @param cursor Cursor devuelto por la consulta anterior (opcional)
+     * @param desde Fecha de inicio para la primera consulta (opcional)
+     * @param limite Cantidad máxima de cambios por página (opcional)
+     * @return Cambios ordenados por fecha y cursor para la siguiente consulta
+     */
+    @Operation(
+        summary = "Obtener cambios del catálogo",
+        description = "Retorna los productos creados, modificados o eliminados después del cursor indicado, " +
+                "ordenados por fecha de cambio e ID. La respuesta siempre incluye un 'cursor' que el " +
+                "consumidor debe guardar y enviar en la siguiente consulta; 'hayMas' indica si ya hay más " +
+                "cambios disponibles. Sin cursor, se parte de 'desde' o del inicio del catálogo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cambios obtenidos exitosamente",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = CambiosResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Cursor, fecha o límite inválido",
+            content = @Content)
+    })
+    @GetMapping("/cambios")
+    public CompletableFuture<ResponseEntity<CambiosResponse>> obtenerCambios(
+            @Parameter(description = "Cursor devuelto por la consulta anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Fecha y hora de inicio (ISO-8601) para la primera consulta, sin cursor")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde,
+            @Parameter(description = "Cantidad máxima de cambios por página")
+            @RequestParam(required = false) Integer limite) {
+        log.info("GET /api/v1/productos/cambios - Obteniendo cambios del catálogo");
+        return ejecutorBaseDatos.ejecutar(() -> ResponseEntity.ok(productoService.obtenerCambios(cursor, desde, limite)));
     }
-}
 
+    /**
+     * Crea varios productos en una sola petición.
+     * 
+     * @param requests Datos de los productos a crear
+     * @return Resultado de cada elemento del lote
+     */
+    @Operation(
+        summary = "Crear productos en lote",
+        description = "Crea varios productos en una sola transacción. Cada elemento se valida de forma " +
+                "individual y los inválidos se reportan sin impedir la creación de los demás"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote procesado",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ResultadoLoteResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Lote vacío o demasiado grande",
+            content = @Content)
+    })
+    @PostMapping("/lote")
+    public CompletableFuture<ResponseEntity<ResultadoLoteResponse>> crearLote(
+            @Parameter(description = "Lista de productos a crear", required = true)
+            @RequestBody List<ProductoRequest> requests) {
+        log.info("POST /api/v1/productos/lote - Creando lote de productos");
+        return ejecutorBaseDatos.ejecutar(() -> ResponseEntity.ok(productoService.crearLote(requests)));
+    }
+
+    /**
+     * Actualiza varios productos en una sola petición.
+     * 
+     * @param requests Identificadores y nuevos datos de los productos
+     * @return Resultado de cada elemento del lote
+     */
+    @Operation(
+        summary = "Actualizar productos en lote",
+        description = "Actualiza varios productos en una sola transacción. Los elementos inválidos o " +
+                "inexistentes se reportan de forma individual"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote procesado",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ResultadoLoteResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Lote vacío o demasiado grande",
+            content = @Content)
+    })
+    @PutMapping("/lote")
+    public CompletableFuture<ResponseEntity<ResultadoLoteResponse>> actualizarLote(
+            @Parameter(description = "Lista de productos a actualizar", required = true)
+            @RequestBody List<ProductoActualizacionRequest> requests) {
+        log.info("PUT /api/v1/productos/lote - Actualizando lote de productos");
+        return ejecutorBaseDatos.ejecutar(() -> ResponseEntity.ok(productoService.actualizarLote(requests)));
+    }
+
+    /**
+     * Elimina varios productos en una sola petición.
+     * 
+     * @param ids Identificadores de los productos a eliminar
+     * @return Resultado de cada elemento del lote
+     */
+    @Operation(
+        summary = "Eliminar productos en lote",
+        description = "Elimina varios productos en una sola transacción. Los identificadores " +
+                "inexistentes se reportan de forma individual"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote procesado",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ResultadoLoteResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Lote vacío o demasiado grande",
+            content = @Content)
+    })
+    @DeleteMapping("/lote")
+    public CompletableFuture<ResponseEntity<ResultadoLoteResponse>> eliminarLote(
+            @Parameter(description = "Lista de IDs de productos a eliminar", required = true)
+            @RequestBody List<Long> ids) {
+        log.info("DELETE /api/v1/productos/lote - Eliminando lote de productos");
+        return ejecutorBaseDatos.ejecutar(() -> ResponseEntity.ok(productoService.eliminarLote(ids)));
+    }
+}
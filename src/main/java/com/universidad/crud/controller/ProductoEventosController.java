@@ -0,0 +1,75 @@
+package com.universidad.crud.controller;
+
+import com.universidad.crud.service.EmisorEventosProductos;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Controlador del flujo de eventos de productos (Server-Sent Events).
+ * Reemplaza la consulta periódica de productos: los clientes reciben cada creación, modificación
+ * o eliminación en cuanto se confirma. Está separado de {@link ProductoController} porque sus
+ * conexiones son de larga duración y no deben contarse en las métricas de latencia de la API.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/productos/eventos")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Eventos de productos", description = "Cambios de productos en tiempo real (Server-Sent Events)")
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET})
+public class ProductoEventosController {
+
+    private final EmisorEventosProductos emisorEventos;
+
+    /**
+     * Abre una conexión SSE que recibe los cambios de productos.
+     * 
+     * @param ids Productos de interés (opcional; por defecto todos)
+     * @param ultimoEventoId Último evento recibido antes de reconectarse (opcional)
+     * @return Emisor SSE de la conexión
+     */
+    @Operation(
+        summary = "Suscribirse a los cambios de productos",
+        description = "Abre un flujo text/event-stream con un evento 'producto' por cada creación, modificación " +
+                "o eliminación confirmada (mismo formato que los elementos de /cambios). Al reconectarse, el " +
+                "cliente envía Last-Event-ID y recibe los eventos perdidos; si ya no están disponibles, recibe " +
+                "el evento 'sincronizar' y debe ponerse al día con /cambios. Un cliente que no consume los " +
+                "eventos a tiempo es desconectado y puede reanudar del mismo modo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Flujo de eventos abierto",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter suscribir(
+            @Parameter(description = "IDs de los productos de interés (por defecto, todos)")
+            @RequestParam(name = "id", required = false) List<Long> ids,
+            @Parameter(description = "Identificador del último evento recibido, para reanudar el flujo")
+            @RequestHeader(name = "Last-Event-ID", required = false) String ultimoEventoId) {
+        log.info("GET /api/v1/productos/eventos - Nueva suscripción a eventos de productos");
+        Set<Long> filtro = ids == null ? Collections.emptySet() : new LinkedHashSet<>(ids);
+        return emisorEventos.suscribir(ultimoEventoId, filtro);
+    }
+}
@@ -0,0 +1,215 @@
+package com.universidad.crud.controller;
+
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.VistaProducto;
+import com.universidad.crud.service.ProductoReactivoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Controlador REST de solo lectura que sirve los productos de forma reactiva (perfil reactivo).
+ * Los listados se paginan con el mismo cursor y límites que la API principal; solo la exportación
+ * recorre el catálogo completo, en flujo NDJSON y con contrapresión. La búsqueda por nombre, acotada
+ * por el límite, también puede escribirse en flujo con {@code Accept: application/x-ndjson}.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/reactivo/productos")
+@Profile("reactivo")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Productos (reactivo)", description = "Consultas de productos no bloqueantes sobre R2DBC")
+@CrossOrigin(origins = "*", methods = {RequestMethod.GET})
+public class ProductoReactivoController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ProductoReactivoService productoReactivoService;
+
+    /**
+     * Obtiene una página de productos utilizando paginación por cursor.
+     * 
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Cantidad máxima de productos por página (opcional)
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Página de productos con el cursor de la siguiente página
+     */
+    @Operation(
+        summary = "Obtener productos paginados",
+        description = "Retorna una página de productos ordenada por ID. Para obtener la siguiente página " +
+                "se debe enviar el valor de 'siguienteCursor' recibido en la respuesta anterior"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de productos obtenida exitosamente",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = PaginaResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Cursor, límite o vista inválida",
+            content = @Content)
+    })
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<? extends PaginaResponse<?>> obtenerTodos(
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de productos por página")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista) {
+        log.info("GET /api/v1/reactivo/productos - Obteniendo página de productos");
+        return VistaProducto.desde(vista) == VistaProducto.RESUMEN
+                ? productoReactivoService.obtenerPaginaResumen(cursor, limite)
+                : productoReactivoService.obtenerPagina(cursor, limite);
+    }
+
+    /**
+     * Exporta el catálogo completo en formato NDJSON (un producto JSON por línea).
+     * Cada elemento se solicita a la base de datos solo después de escribir el anterior.
+     * 
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Flujo de productos ordenado por ID
+     */
+    @Operation(
+        summary = "Exportar catálogo de productos",
+        description = "Retorna todos los productos en formato NDJSON, un objeto JSON por línea, " +
+                "escritos en flujo con contrapresión"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportación generada exitosamente",
+            content = @Content(mediaType = APPLICATION_NDJSON_VALUE,
+            schema = @Schema(implementation = ProductoResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Vista inválida",
+            content = @Content)
+    })
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public Flux<?> exportar(
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista) {
+        log.info("GET /api/v1/reactivo/productos/export - Exportando catálogo de productos");
+        return VistaProducto.desde(vista) == VistaProducto.RESUMEN
+                ? productoReactivoService.exportarResumen()
+                : productoReactivoService.exportar();
+    }
+
+    /**
+     * Obtiene un producto por su ID.
+     * 
+     * @param id Identificador del producto
+     * @return Datos del producto
+     */
+    @Operation(
+        summary = "Obtener producto por ID",
+        description = "Retorna un producto específico basado en su identificador único"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Producto encontrado exitosamente",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = ProductoResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Producto no encontrado",
+            content = @Content)
+    })
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ProductoResponse> obtenerPorId(
+            @Parameter(description = "ID del producto a buscar", required = true)
+            @PathVariable Long id) {
+        log.info("GET /api/v1/reactivo/productos/{} - Obteniendo producto por ID", id);
+        return productoReactivoService.obtenerPorId(id);
+    }
+
+    /**
+     * Busca productos por nombre.
+     * 
+     * @param nombre Texto a buscar en el nombre
+     * @param limite Cantidad máxima de resultados (opcional)
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Flujo de productos que coinciden, ordenados por relevancia
+     */
+    @Operation(
+        summary = "Buscar productos por nombre",
+        description = "Busca productos cuyo nombre contenga el texto especificado, ordenados por relevancia"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente",
+            content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = ProductoResponse.class)))),
+        @ApiResponse(responseCode = "400", description = "Límite o vista inválida",
+            content = @Content)
+    })
+    @GetMapping(value = "/buscar", produces = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    public Flux<?> buscarPorNombre(
+            @Parameter(description = "Nombre o parte del nombre a buscar", required = true)
+            @RequestParam String nombre,
+            @Parameter(description = "Cantidad máxima de resultados")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista) {
+        log.info("GET /api/v1/reactivo/productos/buscar?nombre={} - Buscando productos", nombre);
+        return VistaProducto.desde(vista) == VistaProducto.RESUMEN
+                ? productoReactivoService.buscarResumenPorNombre(nombre, limite)
+                : productoReactivoService.buscarPorNombre(nombre, limite);
+    }
+
+    /**
+     * Busca productos dentro de un rango de precios utilizando paginación por cursor.
+     * 
+     * @param precioMin Precio mínimo del rango
+     * @param precioMax Precio máximo del rango
+     * @param cursor Cursor de la página anterior (opcional)
+     * @param limite Cantidad máxima de productos por página (opcional)
+     * @param vista Campos a incluir en la respuesta (opcional)
+     * @return Página de productos ordenada por precio
+     */
+    @Operation(
+        summary = "Buscar productos por rango de precio",
+        description = "Retorna una página de productos cuyo precio está dentro del rango indicado, " +
+                "ordenada por precio. Para obtener la siguiente página se debe enviar el valor de " +
+                "'siguienteCursor' recibido en la respuesta anterior"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Búsqueda realizada exitosamente",
+            content = @Content(mediaType = "application/json",
+            schema = @Schema(implementation = PaginaResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Rango, cursor, límite o vista inválida",
+            content = @Content)
+    })
+    @GetMapping(value = "/rango-precio", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<? extends PaginaResponse<?>> buscarPorRangoPrecio(
+            @Parameter(description = "Precio mínimo del rango", required = true)
+            @RequestParam BigDecimal precioMin,
+            @Parameter(description = "Precio máximo del rango", required = true)
+            @RequestParam BigDecimal precioMax,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cantidad máxima de productos por página")
+            @RequestParam(required = false) Integer limite,
+            @Parameter(description = "Campos a incluir: 'completa' (por defecto) o 'resumen' (ID, nombre y precio)")
+            @RequestParam(required = false) String vista) {
+        log.info("GET /api/v1/reactivo/productos/rango-precio?precioMin={}&precioMax={} - Buscando productos",
+                precioMin, precioMax);
+        return VistaProducto.desde(vista) == VistaProducto.RESUMEN
+                ? productoReactivoService.buscarResumenPorRangoPrecio(precioMin, precioMax, cursor, limite)
+                : productoReactivoService.buscarPorRangoPrecio(precioMin, precioMax, cursor, limite);
+    }
+}
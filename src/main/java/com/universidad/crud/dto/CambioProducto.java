@@ -0,0 +1,100 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO que representa un cambio del catálogo: la creación o modificación de un producto, o su
+ * eliminación. Se utiliza en el flujo de cambios (/cambios) y en los eventos en vivo (/eventos).
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CambioProducto {
+
+    /**
+     * Tipo de cambio.
+     */
+    private Tipo tipo;
+
+    /**
+     * Identificador del producto afectado.
+     */
+    private Long id;
+
+    /**
+     * Fecha y hora del cambio (fecha de actualización o de eliminación).
+     */
+    private LocalDateTime fecha;
+
+    /**
+     * Datos actuales del producto, o null si fue eliminado.
+     */
+    private ProductoResponse producto;
+
+    /**
+     * Tipos de cambio del flujo.
+     */
+    public enum Tipo {
+        /**
+         * Producto creado. Solo en los eventos en vivo: el flujo de cambios informa las
+         * creaciones como MODIFICADO.
+         */
+        CREADO,
+        MODIFICADO,
+        ELIMINADO
+    }
+
+    /**
+     * Crea el cambio correspondiente a un producto nuevo.
+     * 
+     * @param producto Datos del producto creado
+     * @return Cambio de tipo CREADO
+     */
+    public static CambioProducto creado(ProductoResponse producto) {
+        return CambioProducto.builder()
+                .tipo(Tipo.CREADO)
+                .id(producto.getId())
+                .fecha(producto.getFechaActualizacion())
+                .producto(producto)
+                .build();
+    }
+
+    /**
+     * Crea el cambio correspondiente a un producto creado o modificado.
+     * 
+     * @param producto Datos actuales del producto
+     * @return Cambio de tipo MODIFICADO
+     */
+    public static CambioProducto modificado(ProductoResponse producto) {
+        return CambioProducto.builder()
+                .tipo(Tipo.MODIFICADO)
+                .id(producto.getId())
+                .fecha(producto.getFechaActualizacion())
+                .producto(producto)
+                .build();
+    }
+
+    /**
+     * Crea el cambio correspondiente a un producto eliminado.
+     * 
+     * @param id Identificador del producto
+     * @param fechaEliminacion Fecha y hora de la eliminación
+     * @return Cambio de tipo ELIMINADO
+     */
+    public static CambioProducto eliminado(Long id, LocalDateTime fechaEliminacion) {
+        return CambioProducto.builder()
+                .tipo(Tipo.ELIMINADO)
+                .id(id)
+                .fecha(fechaEliminacion)
+                .build();
+    }
+}
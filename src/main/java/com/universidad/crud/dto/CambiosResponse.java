@@ -0,0 +1,43 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con una página del flujo de cambios del catálogo.
+ * A diferencia de {@link PaginaResponse}, el cursor se devuelve siempre: el consumidor lo guarda
+ * y lo envía en la siguiente consulta para recibir solo los cambios posteriores.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CambiosResponse {
+
+    /**
+     * Cambios ordenados por fecha e ID de producto.
+     */
+    private List<CambioProducto> cambios;
+
+    /**
+     * Posición del último cambio entregado, para continuar la sincronización.
+     */
+    private String cursor;
+
+    /**
+     * Indica si ya existen más cambios después de esta página.
+     */
+    private boolean hayMas;
+
+    /**
+     * Cantidad máxima de cambios solicitada para la página.
+     */
+    private int limite;
+}
@@ -0,0 +1,81 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marca de versión de un recurso, utilizada para las peticiones condicionales (ETag / Last-Modified).
+ * Se obtiene con una consulta liviana, sin cargar ni serializar el recurso completo.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MarcaVersion {
+
+    /**
+     * Valor que cambia cada vez que el recurso se modifica.
+     */
+    private String valor;
+
+    /**
+     * Fecha y hora de la última modificación del recurso (puede ser null si no hay datos).
+     */
+    private LocalDateTime ultimaModificacion;
+
+    /**
+     * Construye la marca de versión de un producto a partir de su ID y su número de versión.
+     * 
+     * @param id Identificador del producto
+     * @param version Número de versión del producto
+     * @param ultimaModificacion Fecha de la última modificación
+     * @return Marca de versión del producto
+     */
+    public static MarcaVersion deProducto(Long id, Long version, LocalDateTime ultimaModificacion) {
+        return new MarcaVersion(id + "-" + version, ultimaModificacion);
+    }
+
+    /**
+     * Construye la marca de versión de un producto a partir de sus datos.
+     * 
+     * @param producto Producto
+     * @return Marca de versión del producto
+     */
+    public static MarcaVersion deProducto(ProductoResponse producto) {
+        return deProducto(producto.getId(), producto.getVersion(), producto.getFechaActualizacion());
+    }
+
+    /**
+     * Extrae el número de versión de un ETag de producto (por ejemplo {@code "15-3"}).
+     * 
+     * @param id Identificador del producto al que debe corresponder el ETag
+     * @param etag ETag recibido, con o sin comillas
+     * @return Número de versión, o null si el ETag no corresponde al producto, es débil o no es válido
+     */
+    public static Long versionDeProducto(Long id, String etag) {
+        String valor = etag.trim();
+        if (valor.startsWith("W/")) {
+            // Un ETag débil no garantiza la versión exacta (comparación fuerte de If-Match)
+            return null;
+        }
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        String prefijo = id + "-";
+        if (!valor.startsWith(prefijo)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(valor.substring(prefijo.length()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO que representa una página de resultados obtenida mediante paginación por cursor.
+ * El cursor es opaco para el cliente y debe enviarse tal cual para obtener la siguiente página.
+ * 
+ * @param <T> Tipo de los elementos de la página
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PaginaResponse<T> {
+
+    /**
+     * Elementos de la página actual.
+     */
+    private List<T> contenido;
+
+    /**
+     * Cursor para solicitar la siguiente página, o null si no hay más resultados.
+     */
+    private String siguienteCursor;
+
+    /**
+     * Cantidad máxima de elementos solicitada para la página.
+     */
+    private int limite;
+}
@@ -0,0 +1,35 @@
+package com.universidad.crud.dto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO (Data Transfer Object) para recibir un elemento de una actualización masiva.
+ * Asocia el identificador del producto con sus nuevos datos.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductoActualizacionRequest {
+
+    /**
+     * Identificador del producto a actualizar.
+     */
+    @NotNull(message = "El ID del producto es obligatorio")
+    private Long id;
+
+    /**
+     * Nuevos datos del producto.
+     */
+    @Valid
+    @NotNull(message = "Los datos del producto son obligatorios")
+    private ProductoRequest datos;
+}
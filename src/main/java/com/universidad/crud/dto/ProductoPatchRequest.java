@@ -0,0 +1,56 @@
+package com.universidad.crud.dto;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para la actualización parcial de un producto.
+ * Solo se modifican los campos enviados; los campos nulos conservan su valor actual.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductoPatchRequest {
+
+    /**
+     * Nuevo nombre del producto (opcional).
+     */
+    @Pattern(regexp = "(?s).*\\S.*", message = "El nombre del producto no puede estar vacío")
+    @Size(min = 2, max = 100, message = "El nombre debe tener entre 2 y 100 caracteres")
+    private String nombre;
+
+    /**
+     * Nueva descripción del producto (opcional).
+     */
+    @Pattern(regexp = "(?s).*\\S.*", message = "La descripción del producto no puede estar vacía")
+    @Size(min = 10, max = 500, message = "La descripción debe tener entre 10 y 500 caracteres")
+    private String descripcion;
+
+    /**
+     * Nuevo precio del producto (opcional).
+     */
+    @DecimalMin(value = "0.01", message = "El precio debe ser mayor a 0")
+    @Digits(integer = 10, fraction = 2, message = "El precio debe tener máximo 10 dígitos enteros y 2 decimales")
+    private BigDecimal precio;
+
+    /**
+     * Indica si la petición no modifica ningún campo.
+     * 
+     * @return true si todos los campos son nulos
+     */
+    public boolean estaVacia() {
+        return nombre == null && descripcion == null && precio == null;
+    }
+}
@@ -28,6 +28,7 @@ public class ProductoResponse {
     private BigDecimal precio;
     private LocalDateTime fechaCreacion;
     private LocalDateTime fechaActualizacion;
+    private Long version;
 
     /**
      * Método estático de fábrica para convertir una entidad Producto a ProductoResponse.
@@ -43,6 +44,7 @@ public class ProductoResponse {
                 .precio(producto.getPrecio())
                 .fechaCreacion(producto.getFechaCreacion())
                 .fechaActualizacion(producto.getFechaActualizacion())
+                .version(producto.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,26 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO (Data Transfer Object) con la vista resumida de un producto.
+ * Omite la descripción y las fechas para reducir el tamaño de las respuestas de listados.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductoResumenResponse {
+
+    private Long id;
+    private String nombre;
+    private BigDecimal precio;
+}
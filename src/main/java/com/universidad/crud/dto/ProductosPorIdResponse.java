@@ -0,0 +1,34 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resultado de una consulta de varios productos por ID.
+ * Los productos se devuelven en el orden en que se solicitaron sus IDs (sin repetidos) y los
+ * IDs inexistentes se informan por separado en lugar de producir un error.
+ * 
+ * @param <T> Tipo de los productos devueltos
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductosPorIdResponse<T> {
+
+    /**
+     * Productos encontrados, en el orden solicitado.
+     */
+    private List<T> productos;
+
+    /**
+     * IDs solicitados que no corresponden a ningún producto, en el orden solicitado.
+     */
+    private List<Long> noEncontrados;
+}
@@ -0,0 +1,109 @@
+package com.universidad.crud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO (Data Transfer Object) con el resultado de una operación masiva.
+ * Incluye el resumen de la operación y el resultado individual de cada elemento,
+ * en el mismo orden en que fueron enviados.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultadoLoteResponse {
+
+    /**
+     * Cantidad de elementos recibidos.
+     */
+    private int total;
+
+    /**
+     * Cantidad de elementos procesados exitosamente.
+     */
+    private int exitosos;
+
+    /**
+     * Cantidad de elementos rechazados.
+     */
+    private int fallidos;
+
+    /**
+     * Resultado de cada elemento del lote.
+     */
+    private List<ResultadoItem> resultados;
+
+    /**
+     * Estados posibles de un elemento dentro de una operación masiva.
+     */
+    public enum Estado {
+        CREADO,
+        ACTUALIZADO,
+        ELIMINADO,
+        INVALIDO,
+        NO_ENCONTRADO
+    }
+
+    /**
+     * Resultado individual de un elemento del lote.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ResultadoItem {
+
+        /**
+         * Posición del elemento en el lote recibido (inicia en 0).
+         */
+        private int indice;
+
+        /**
+         * Identificador del producto afectado, si aplica.
+         */
+        private Long id;
+
+        /**
+         * Estado final del elemento.
+         */
+        private Estado estado;
+
+        /**
+         * Errores de validación del elemento (si aplica).
+         */
+        private List<String> errores;
+
+        /**
+         * Indica si el elemento fue procesado exitosamente.
+         * 
+         * @return true si el estado no corresponde a un rechazo
+         */
+        public boolean esExitoso() {
+            return estado != Estado.INVALIDO && estado != Estado.NO_ENCONTRADO;
+        }
+    }
+
+    /**
+     * Construye el resultado del lote calculando el resumen a partir de los resultados individuales.
+     * 
+     * @param resultados Resultados individuales en el orden recibido
+     * @return Resultado del lote
+     */
+    public static ResultadoLoteResponse de(List<ResultadoItem> resultados) {
+        int exitosos = (int) resultados.stream().filter(ResultadoItem::esExitoso).count();
+        return ResultadoLoteResponse.builder()
+                .total(resultados.size())
+                .exitosos(exitosos)
+                .fallidos(resultados.size() - exitosos)
+                .resultados(resultados)
+                .build();
+    }
+}
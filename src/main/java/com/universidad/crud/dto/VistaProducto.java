@@ -0,0 +1,42 @@
+package com.universidad.crud.dto;
+
+import com.universidad.crud.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Conjunto de campos a incluir en las respuestas de los listados de productos.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+public enum VistaProducto {
+
+    /**
+     * Todos los campos del producto ({@link ProductoResponse}).
+     */
+    COMPLETA,
+
+    /**
+     * Solo ID, nombre y precio ({@link ProductoResumenResponse}).
+     */
+    RESUMEN;
+
+    /**
+     * Obtiene la vista a partir del valor recibido en la petición, sin distinguir mayúsculas.
+     * 
+     * @param valor Nombre de la vista, o null para la vista completa
+     * @return Vista correspondiente
+     * @throws BadRequestException si el valor no corresponde a una vista conocida
+     */
+    public static VistaProducto desde(String valor) {
+        if (valor == null || valor.isEmpty()) {
+            return COMPLETA;
+        }
+        try {
+            return valueOf(valor.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("La vista debe ser 'completa' o 'resumen'");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.universidad.crud.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción personalizada para peticiones con parámetros inválidos.
+ * Se lanza cuando un parámetro no puede ser interpretado o está fuera de los límites permitidos.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@ResponseStatus(value = HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructor de la excepción.
+     * 
+     * @param mensaje Mensaje descriptivo del error
+     */
+    public BadRequestException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -0,0 +1,24 @@
+package com.universidad.crud.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción personalizada para conflictos de concurrencia.
+ * Se lanza cuando se intenta modificar un recurso a partir de una versión que ya no es la vigente.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Constructor de la excepción.
+     * 
+     * @param mensaje Mensaje descriptivo del error
+     */
+    public ConflictException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -2,23 +2,31 @@ package com.universidad.crud.model;
 
 import javax.persistence.*;
 import javax.validation.constraints.*;
+import com.universidad.crud.config.HibernateCacheConfig;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Entidad que representa un Producto en el sistema.
  * Mapeada a la tabla 'productos' en la base de datos mediante JPA/Hibernate.
+ * El esquema y sus índices se definen en las migraciones Flyway (db/migration/{vendor}).
  * 
  * @author Carlos Andres Carvajal Rivera
  * @version 1.0.0
  */
 @Entity
 @Table(name = "productos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.REGION_PRODUCTO)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,10 +35,12 @@ public class Producto {
 
     /**
      * Identificador único del producto.
-     * Generado automáticamente por la base de datos.
+     * Generado a partir de la secuencia productos_seq con un optimizador pooled, que reserva
+     * bloques de identificadores en memoria y permite agrupar los INSERT en lotes JDBC.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productos_seq")
+    @SequenceGenerator(name = "productos_seq", sequenceName = "productos_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -75,14 +85,34 @@ public class Producto {
     @Column(name = "fecha_actualizacion")
     private LocalDateTime fechaActualizacion;
 
+    /**
+     * Versión del registro para el control de concurrencia optimista.
+     * Se incrementa en cada modificación; una escritura con una versión desactualizada falla.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Establece el precio con la escala de la columna (2 decimales), como se leerá de la base de datos.
+     * Se normaliza al asignarlo porque Hibernate considera igual un precio que solo cambia de escala y
+     * no tomaría el valor normalizado en el callback de actualización.
+     *
+     * @param precio Precio del producto
+     */
+    public void setPrecio(BigDecimal precio) {
+        this.precio = precio != null ? precio.setScale(2, RoundingMode.HALF_UP) : null;
+    }
+
     /**
      * Método ejecutado antes de persistir un nuevo producto.
-     * Establece la fecha de creación automáticamente.
+     * Establece la fecha de creación automáticamente y normaliza el precio asignado por el builder.
      */
     @PrePersist
     protected void onCreate() {
-        this.fechaCreacion = LocalDateTime.now();
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaCreacion = fechaActual();
+        this.fechaActualizacion = this.fechaCreacion;
+        setPrecio(this.precio);
     }
 
     /**
@@ -91,7 +121,16 @@ public class Producto {
      */
     @PreUpdate
     protected void onUpdate() {
-        this.fechaActualizacion = LocalDateTime.now();
+        this.fechaActualizacion = fechaActual();
     }
-}
 
+    /**
+     * Fecha y hora actual con la precisión que guarda la base de datos (microsegundos), de modo que la
+     * entidad recién escrita coincida con la que se lee después.
+     *
+     * @return Fecha y hora actual truncada a microsegundos
+     */
+    public static LocalDateTime fechaActual() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,42 @@
+package com.universidad.crud.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Registro (lápida) de un producto eliminado.
+ * Permite que el flujo de cambios informe las eliminaciones a los consumidores que
+ * sincronizan el catálogo de forma incremental.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "productos_eliminados")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductoEliminado {
+
+    /**
+     * Identificador del producto eliminado.
+     */
+    @Id
+    @Column(name = "producto_id")
+    private Long id;
+
+    /**
+     * Fecha y hora de la eliminación.
+     */
+    @Column(name = "fecha_eliminacion", nullable = false)
+    private LocalDateTime fechaEliminacion;
+}
@@ -0,0 +1,45 @@
+package com.universidad.crud.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Representación de la tabla productos para el acceso reactivo con Spring Data R2DBC.
+ * Se usa solo para lectura (perfil reactivo); las escrituras se realizan a través de la entidad JPA
+ * {@link Producto}, que es la que administra la secuencia y la versión.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Table("productos")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductoRegistro {
+
+    @Id
+    private Long id;
+
+    private String nombre;
+
+    private String descripcion;
+
+    private BigDecimal precio;
+
+    @Column("fecha_creacion")
+    private LocalDateTime fechaCreacion;
+
+    @Column("fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+
+    private Long version;
+}
@@ -0,0 +1,49 @@
+package com.universidad.crud.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * Versión del catálogo completo de productos, de la que se obtienen el ETag y el Last-Modified de los
+ * listados. Es una única fila que cada transacción de escritura de productos incrementa antes de
+ * confirmarse, por lo que todas las instancias ven el mismo valor sin recorrer la tabla de productos.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "version_catalogo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VersionCatalogo {
+
+    /**
+     * Identificador de la única fila de la tabla.
+     */
+    public static final Integer ID = 1;
+
+    @Id
+    private Integer id;
+
+    /**
+     * Número de versión, incrementado en cada transacción que crea, modifica o elimina productos.
+     */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /**
+     * Fecha y hora de la última transacción que modificó el catálogo (null si aún no hay cambios).
+     */
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+}
@@ -0,0 +1,40 @@
+package com.universidad.crud.repository;
+
+import com.universidad.crud.model.ProductoEliminado;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repositorio de los registros de productos eliminados, utilizados por el flujo de cambios.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Repository
+public interface ProductoEliminadoRepository extends JpaRepository<ProductoEliminado, Long> {
+
+    /**
+     * Obtiene las eliminaciones posteriores a la posición indicada y anteriores al límite superior
+     * (paginación por keyset sobre (fecha_eliminacion, producto_id)).
+     * 
+     * @param fechaCursor Fecha del último cambio entregado
+     * @param idCursor ID del último cambio entregado
+     * @param hasta Límite superior (exclusivo) de la fecha de eliminación
+     * @param pageable Límite de resultados a obtener
+     * @return Eliminaciones ordenadas por fecha e ID
+     */
+    @Query("SELECT e FROM ProductoEliminado e WHERE e.fechaEliminacion >= :fechaCursor " +
+           "AND (e.fechaEliminacion > :fechaCursor OR (e.fechaEliminacion = :fechaCursor AND e.id > :idCursor)) " +
+           "AND e.fechaEliminacion < :hasta " +
+           "ORDER BY e.fechaEliminacion ASC, e.id ASC")
+    List<ProductoEliminado> findEliminadosDesde(@Param("fechaCursor") LocalDateTime fechaCursor,
+                                                @Param("idCursor") Long idCursor,
+                                                @Param("hasta") LocalDateTime hasta,
+                                                Pageable pageable);
+}
@@ -0,0 +1,15 @@
+package com.universidad.crud.repository;
+
+/**
+ * Proyección con el identificador y el nombre de un producto.
+ * Utilizada para construir el índice de búsqueda por nombre sin cargar entidades completas.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+public interface ProductoNombre {
+
+    Long getId();
+
+    String getNombre();
+}
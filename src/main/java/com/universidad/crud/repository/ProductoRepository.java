@@ -1,18 +1,29 @@
 package com.universidad.crud.repository;
 
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductoResumenResponse;
 import com.universidad.crud.model.Producto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositorio para la entidad Producto.
  * Proporciona operaciones CRUD mediante Spring Data JPA.
  * Extiende JpaRepository para heredar métodos estándar de persistencia.
+ * Las consultas de lectura de los listados se guardan en la caché de consultas de Hibernate
+ * (sugerencia org.hibernate.cacheable); cualquier escritura en la tabla invalida sus resultados.
  * 
  * @author Carlos Andres Carvajal Rivera
  * @version 1.0.0
@@ -21,31 +32,184 @@ import java.util.List;
 public interface ProductoRepository extends JpaRepository<Producto, Long> {
 
     /**
-     * Busca productos cuyo nombre contenga el texto especificado.
-     * La búsqueda es case-insensitive.
+     * Expresión de constructor para proyectar directamente a {@link ProductoResponse}.
+     */
+    String SELECT_COMPLETA = "SELECT new com.universidad.crud.dto.ProductoResponse(" +
+            "p.id, p.nombre, p.descripcion, p.precio, p.fechaCreacion, p.fechaActualizacion, p.version) ";
+
+    /**
+     * Expresión de constructor para proyectar directamente a {@link ProductoResumenResponse}.
+     */
+    String SELECT_RESUMEN = "SELECT new com.universidad.crud.dto.ProductoResumenResponse(" +
+            "p.id, p.nombre, p.precio) ";
+
+    String WHERE_PAGINA = "FROM Producto p WHERE p.id > :ultimoId ORDER BY p.id ASC";
+
+    String WHERE_NOMBRE = "FROM Producto p WHERE LOWER(p.nombre) LIKE LOWER(:patron) ESCAPE '\\'";
+
+    String WHERE_IDS = "FROM Producto p WHERE p.id IN :ids";
+
+    String WHERE_RANGO_PRECIO = "FROM Producto p WHERE p.precio BETWEEN :precioMin AND :precioMax " +
+            "AND p.precio >= :precioCursor " +
+            "AND (p.precio > :precioCursor OR (p.precio = :precioCursor AND p.id > :idCursor)) " +
+            "ORDER BY p.precio ASC, p.id ASC";
+
+    String WHERE_CAMBIOS = "FROM Producto p WHERE p.fechaActualizacion >= :fechaCursor " +
+            "AND (p.fechaActualizacion > :fechaCursor OR (p.fechaActualizacion = :fechaCursor AND p.id > :idCursor)) " +
+            "AND p.fechaActualizacion < :hasta " +
+            "ORDER BY p.fechaActualizacion ASC, p.id ASC";
+
+    /**
+     * Recorre todos los productos ordenados por ID como un flujo perezoso.
+     * Las filas se leen del cursor JDBC por bloques según el fetch size, sin materializar la tabla completa.
+     * Debe consumirse dentro de una transacción y cerrarse al finalizar.
      * 
-     * @param nombre Texto a buscar en el nombre del producto
-     * @return Lista de productos que coinciden con el criterio
+     * @return Flujo de productos ordenados por ID
      */
-    List<Producto> findByNombreContainingIgnoreCase(String nombre);
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT p FROM Producto p ORDER BY p.id ASC")
+    Stream<Producto> streamTodos();
 
     /**
-     * Busca productos cuyo precio esté dentro de un rango especificado.
+     * Recorre el identificador y el nombre de todos los productos como un flujo perezoso.
+     * Debe consumirse dentro de una transacción y cerrarse al finalizar.
+     * 
+     * @return Flujo de proyecciones con ID y nombre
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT p.id AS id, p.nombre AS nombre FROM Producto p")
+    Stream<ProductoNombre> streamNombres();
+
+    /**
+     * Obtiene la página de productos siguiente al identificador indicado (paginación por keyset),
+     * proyectada directamente a la vista completa sin crear entidades administradas.
+     * 
+     * @param ultimoId Identificador del último producto de la página anterior (0 para la primera)
+     * @param pageable Límite de resultados a obtener
+     * @return Lista de productos ordenados por ID
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_COMPLETA + WHERE_PAGINA)
+    List<ProductoResponse> findPaginaCompleta(@Param("ultimoId") Long ultimoId, Pageable pageable);
+
+    /**
+     * Obtiene la página de productos siguiente al identificador indicado, proyectada a la vista resumida.
+     * 
+     * @param ultimoId Identificador del último producto de la página anterior (0 para la primera)
+     * @param pageable Límite de resultados a obtener
+     * @return Lista de productos ordenados por ID
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_RESUMEN + WHERE_PAGINA)
+    List<ProductoResumenResponse> findPaginaResumen(@Param("ultimoId") Long ultimoId, Pageable pageable);
+
+    /**
+     * Obtiene la página de productos dentro de un rango de precios posterior a la posición indicada
+     * (paginación por keyset sobre (precio, id), respaldada por el índice idx_productos_precio_id),
+     * proyectada a la vista completa. Para la primera página se usa el precio mínimo como posición y 0 como ID.
      * 
      * @param precioMin Precio mínimo del rango
      * @param precioMax Precio máximo del rango
-     * @return Lista de productos dentro del rango de precios
+     * @param precioCursor Precio del último producto de la página anterior
+     * @param idCursor ID del último producto de la página anterior
+     * @param pageable Límite de resultados a obtener
+     * @return Lista de productos ordenados por precio e ID
      */
-    @Query("SELECT p FROM Producto p WHERE p.precio BETWEEN :precioMin AND :precioMax ORDER BY p.precio ASC")
-    List<Producto> findByPrecioBetween(@Param("precioMin") BigDecimal precioMin, 
-                                        @Param("precioMax") BigDecimal precioMax);
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_COMPLETA + WHERE_RANGO_PRECIO)
+    List<ProductoResponse> findPaginaPorPrecioCompleta(@Param("precioMin") BigDecimal precioMin,
+                                                       @Param("precioMax") BigDecimal precioMax,
+                                                       @Param("precioCursor") BigDecimal precioCursor,
+                                                       @Param("idCursor") Long idCursor,
+                                                       Pageable pageable);
 
     /**
-     * Verifica si existe un producto con el nombre especificado.
+     * Obtiene la página de productos dentro de un rango de precios, proyectada a la vista resumida.
      * 
-     * @param nombre Nombre del producto a verificar
-     * @return true si existe, false en caso contrario
+     * @param precioMin Precio mínimo del rango
+     * @param precioMax Precio máximo del rango
+     * @param precioCursor Precio del último producto de la página anterior
+     * @param idCursor ID del último producto de la página anterior
+     * @param pageable Límite de resultados a obtener
+     * @return Lista de productos ordenados por precio e ID
      */
-    boolean existsByNombreIgnoreCase(String nombre);
-}
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_RESUMEN + WHERE_RANGO_PRECIO)
+    List<ProductoResumenResponse> findPaginaPorPrecioResumen(@Param("precioMin") BigDecimal precioMin,
+                                                             @Param("precioMax") BigDecimal precioMax,
+                                                             @Param("precioCursor") BigDecimal precioCursor,
+                                                             @Param("idCursor") Long idCursor,
+                                                             Pageable pageable);
 
+    /**
+     * Busca productos cuyo nombre coincide con el patrón LIKE, proyectados a la vista completa.
+     * 
+     * @param patron Patrón LIKE (por ejemplo {@code %texto%}), con {@code \} como carácter de escape
+     * @param pageable Límite y ordenamiento de los resultados
+     * @return Lista de productos que coinciden con el criterio
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_COMPLETA + WHERE_NOMBRE)
+    List<ProductoResponse> findCompletosPorNombre(@Param("patron") String patron, Pageable pageable);
+
+    /**
+     * Busca productos cuyo nombre coincide con el patrón LIKE, proyectados a la vista resumida.
+     * 
+     * @param patron Patrón LIKE (por ejemplo {@code %texto%}), con {@code \} como carácter de escape
+     * @param pageable Límite y ordenamiento de los resultados
+     * @return Lista de productos que coinciden con el criterio
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_RESUMEN + WHERE_NOMBRE)
+    List<ProductoResumenResponse> findResumenesPorNombre(@Param("patron") String patron, Pageable pageable);
+
+    /**
+     * Obtiene los productos con los identificadores indicados, proyectados a la vista completa.
+     * 
+     * @param ids Identificadores de los productos
+     * @return Productos encontrados (sin orden garantizado)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_COMPLETA + WHERE_IDS)
+    List<ProductoResponse> findCompletosPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene los productos con los identificadores indicados, proyectados a la vista resumida.
+     * 
+     * @param ids Identificadores de los productos
+     * @return Productos encontrados (sin orden garantizado)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+    @Query(SELECT_RESUMEN + WHERE_IDS)
+    List<ProductoResumenResponse> findResumenesPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene los productos creados o modificados después de la posición indicada y antes del límite
+     * superior (paginación por keyset sobre (fecha_actualizacion, id), respaldada por el índice
+     * idx_productos_fecha_actualizacion_id), proyectados a la vista completa.
+     * 
+     * @param fechaCursor Fecha del último cambio entregado
+     * @param idCursor ID del último cambio entregado
+     * @param hasta Límite superior (exclusivo) de la fecha de actualización
+     * @param pageable Límite de resultados a obtener
+     * @return Productos ordenados por fecha de actualización e ID
+     */
+    @Query(SELECT_COMPLETA + WHERE_CAMBIOS)
+    List<ProductoResponse> findCambiosDesde(@Param("fechaCursor") LocalDateTime fechaCursor,
+                                            @Param("idCursor") Long idCursor,
+                                            @Param("hasta") LocalDateTime hasta,
+                                            Pageable pageable);
+
+    /**
+     * Obtiene los datos de versión de un producto sin cargar la entidad.
+     * 
+     * @param id Identificador del producto
+     * @return Datos de versión, o vacío si el producto no existe
+     */
+    @Query("SELECT p.id AS id, p.version AS version, p.fechaActualizacion AS fechaActualizacion " +
+           "FROM Producto p WHERE p.id = :id")
+    Optional<VersionProducto> findVersionById(@Param("id") Long id);
+}
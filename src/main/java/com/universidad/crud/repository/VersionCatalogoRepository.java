@@ -0,0 +1,33 @@
+package com.universidad.crud.repository;
+
+import com.universidad.crud.model.VersionCatalogo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositorio de la versión del catálogo de productos.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Repository
+public interface VersionCatalogoRepository extends JpaRepository<VersionCatalogo, Integer> {
+
+    /**
+     * Incrementa la versión del catálogo en la transacción actual.
+     * El UPDATE bloquea la fila hasta que la transacción termina, por lo que las escrituras concurrentes
+     * se ordenan en este punto: debe ejecutarse después de las demás sentencias de la transacción.
+     *
+     * @param fecha Fecha y hora del cambio
+     * @return Cantidad de filas actualizadas (1)
+     */
+    @Modifying
+    @Query("UPDATE VersionCatalogo v SET v.version = v.version + 1, v.fechaActualizacion = :fecha " +
+           "WHERE v.id = 1")
+    int incrementar(@Param("fecha") LocalDateTime fecha);
+}
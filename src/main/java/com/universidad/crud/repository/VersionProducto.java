@@ -0,0 +1,18 @@
+package com.universidad.crud.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con los datos de versión de un producto.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+public interface VersionProducto {
+
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getFechaActualizacion();
+}
@@ -0,0 +1,168 @@
+package com.universidad.crud.repository.reactivo;
+
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductoResumenResponse;
+import com.universidad.crud.model.ProductoRegistro;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Repositorio reactivo de solo lectura sobre la tabla productos (perfil reactivo).
+ * Las consultas proyectan directamente a los DTO de respuesta compartidos con el repositorio JPA,
+ * con el mismo orden que sus equivalentes en {@link com.universidad.crud.repository.ProductoRepository}.
+ * El SQL es compatible con H2 y SQL Server.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+public interface ProductoReactivoRepository extends Repository<ProductoRegistro, Long> {
+
+    String SELECT_COMPLETA = "SELECT id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version " +
+            "FROM productos ";
+
+    String SELECT_RESUMEN = "SELECT id, nombre, precio FROM productos ";
+
+    String ORDEN_ID = "ORDER BY id";
+
+    /**
+     * Límite de filas de las páginas por keyset (sintaxis estándar, válida en H2 y SQL Server 2012+).
+     */
+    String LIMITE_FILAS = "OFFSET 0 ROWS FETCH NEXT :filas ROWS ONLY";
+
+    String WHERE_ID = "WHERE id = :id";
+
+    String WHERE_IDS = "WHERE id IN (:ids)";
+
+    String WHERE_NOMBRE = "WHERE LOWER(nombre) LIKE LOWER(:patron) ESCAPE '\\' ORDER BY nombre, id";
+
+    String WHERE_PAGINA = "WHERE id > :ultimoId ORDER BY id " + LIMITE_FILAS;
+
+    String WHERE_RANGO_PRECIO = "WHERE precio BETWEEN :precioMin AND :precioMax " +
+            "AND precio >= :precioCursor " +
+            "AND (precio > :precioCursor OR (precio = :precioCursor AND id > :idCursor)) " +
+            "ORDER BY precio, id " + LIMITE_FILAS;
+
+    /**
+     * Recorre todos los productos ordenados por ID.
+     * Solo para la exportación en flujo: cada fila se lee a medida que el cliente consume la respuesta.
+     * 
+     * @return Flujo de productos
+     */
+    @Query(SELECT_COMPLETA + ORDEN_ID)
+    Flux<ProductoResponse> findTodosCompletos();
+
+    /**
+     * Recorre todos los productos ordenados por ID, proyectados a la vista resumida.
+     * Solo para la exportación en flujo.
+     * 
+     * @return Flujo de productos
+     */
+    @Query(SELECT_RESUMEN + ORDEN_ID)
+    Flux<ProductoResumenResponse> findTodosResumenes();
+
+    /**
+     * Obtiene la página de productos siguiente al identificador indicado (paginación por keyset).
+     * 
+     * @param ultimoId Identificador del último producto de la página anterior (0 para la primera)
+     * @param filas Cantidad máxima de filas a obtener
+     * @return Productos ordenados por ID
+     */
+    @Query(SELECT_COMPLETA + WHERE_PAGINA)
+    Flux<ProductoResponse> findPaginaCompleta(@Param("ultimoId") Long ultimoId, @Param("filas") int filas);
+
+    /**
+     * Obtiene la página de productos siguiente al identificador indicado, proyectada a la vista resumida.
+     * 
+     * @param ultimoId Identificador del último producto de la página anterior (0 para la primera)
+     * @param filas Cantidad máxima de filas a obtener
+     * @return Productos ordenados por ID
+     */
+    @Query(SELECT_RESUMEN + WHERE_PAGINA)
+    Flux<ProductoResumenResponse> findPaginaResumen(@Param("ultimoId") Long ultimoId, @Param("filas") int filas);
+
+    /**
+     * Obtiene un producto por su ID.
+     * 
+     * @param id Identificador del producto
+     * @return Producto encontrado, o vacío si no existe
+     */
+    @Query(SELECT_COMPLETA + WHERE_ID)
+    Mono<ProductoResponse> findCompletoPorId(@Param("id") Long id);
+
+    /**
+     * Obtiene los productos con los identificadores indicados.
+     * 
+     * @param ids Identificadores de los productos
+     * @return Productos encontrados (sin orden garantizado)
+     */
+    @Query(SELECT_COMPLETA + WHERE_IDS)
+    Flux<ProductoResponse> findCompletosPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene los productos con los identificadores indicados, proyectados a la vista resumida.
+     * 
+     * @param ids Identificadores de los productos
+     * @return Productos encontrados (sin orden garantizado)
+     */
+    @Query(SELECT_RESUMEN + WHERE_IDS)
+    Flux<ProductoResumenResponse> findResumenesPorIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca productos cuyo nombre coincide con el patrón LIKE, ordenados por nombre e ID.
+     * 
+     * @param patron Patrón LIKE (por ejemplo {@code %texto%}), con {@code \} como carácter de escape
+     * @return Flujo de productos encontrados
+     */
+    @Query(SELECT_COMPLETA + WHERE_NOMBRE)
+    Flux<ProductoResponse> findCompletosPorNombre(@Param("patron") String patron);
+
+    /**
+     * Busca productos cuyo nombre coincide con el patrón LIKE, proyectados a la vista resumida.
+     * 
+     * @param patron Patrón LIKE (por ejemplo {@code %texto%}), con {@code \} como carácter de escape
+     * @return Flujo de productos encontrados
+     */
+    @Query(SELECT_RESUMEN + WHERE_NOMBRE)
+    Flux<ProductoResumenResponse> findResumenesPorNombre(@Param("patron") String patron);
+
+    /**
+     * Obtiene la página de productos dentro del rango de precios posterior a la posición indicada
+     * (paginación por keyset sobre (precio, id)), ordenados por precio e ID.
+     * 
+     * @param precioMin Precio mínimo
+     * @param precioMax Precio máximo
+     * @param precioCursor Precio del último producto de la página anterior
+     * @param idCursor ID del último producto de la página anterior
+     * @param filas Cantidad máxima de filas a obtener
+     * @return Productos ordenados por precio e ID
+     */
+    @Query(SELECT_COMPLETA + WHERE_RANGO_PRECIO)
+    Flux<ProductoResponse> findPaginaPorPrecioCompleta(@Param("precioMin") BigDecimal precioMin,
+                                                       @Param("precioMax") BigDecimal precioMax,
+                                                       @Param("precioCursor") BigDecimal precioCursor,
+                                                       @Param("idCursor") Long idCursor,
+                                                       @Param("filas") int filas);
+
+    /**
+     * Obtiene la página de productos dentro del rango de precios, proyectada a la vista resumida.
+     * 
+     * @param precioMin Precio mínimo
+     * @param precioMax Precio máximo
+     * @param precioCursor Precio del último producto de la página anterior
+     * @param idCursor ID del último producto de la página anterior
+     * @param filas Cantidad máxima de filas a obtener
+     * @return Productos ordenados por precio e ID
+     */
+    @Query(SELECT_RESUMEN + WHERE_RANGO_PRECIO)
+    Flux<ProductoResumenResponse> findPaginaPorPrecioResumen(@Param("precioMin") BigDecimal precioMin,
+                                                             @Param("precioMax") BigDecimal precioMax,
+                                                             @Param("precioCursor") BigDecimal precioCursor,
+                                                             @Param("idCursor") Long idCursor,
+                                                             @Param("filas") int filas);
+}
@@ -0,0 +1,115 @@
+package com.universidad.crud.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.universidad.crud.config.CacheConfig;
+import com.universidad.crud.dto.CambioProducto;
+import com.universidad.crud.dto.ProductoResponse;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura de productos por ID (caché "productos" de Spring).
+ * Las entradas se guardan solo desde lecturas de la base de datos y se eliminan al confirmarse cada
+ * cambio, nunca antes: una petición que lea el producto entre la escritura y la confirmación no deja
+ * en la caché la versión anterior. Como una lectura puede terminar después de la confirmación, cada
+ * cambio registra además la versión mínima admitida para su producto durante un tiempo, y una lectura
+ * con una versión menor no se guarda.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+public class CacheProductos {
+
+    /**
+     * Tiempo durante el que se rechazan lecturas anteriores a un cambio confirmado; supera la duración
+     * de una lectura por ID y el retraso tolerado de las réplicas.
+     */
+    private static final Duration GUARDA_VERSIONES = Duration.ofMinutes(1);
+
+    /**
+     * Versión mínima de un producto eliminado: ninguna lectura posterior se guarda.
+     */
+    private static final long VERSION_ELIMINADO = Long.MAX_VALUE;
+
+    private final Cache cache;
+    private final ConcurrentMap<Long, Long> versionesMinimas;
+
+    public CacheProductos(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CACHE_PRODUCTOS),
+                "No existe la caché " + CacheConfig.CACHE_PRODUCTOS);
+        this.versionesMinimas = Caffeine.newBuilder()
+                .expireAfterWrite(GUARDA_VERSIONES)
+                .<Long, Long>build()
+                .asMap();
+    }
+
+    /**
+     * Obtiene un producto de la caché o, si no está, lo carga y lo guarda.
+     *
+     * @param id Identificador del producto
+     * @param carga Lectura del producto en la base de datos
+     * @return Producto encontrado
+     */
+    public ProductoResponse obtener(Long id, Supplier<ProductoResponse> carga) {
+        ProductoResponse enCache = buscar(id);
+        if (enCache != null) {
+            return enCache;
+        }
+        ProductoResponse producto = carga.get();
+        guardar(producto);
+        return producto;
+    }
+
+    /**
+     * Busca un producto en la caché sin consultar la base de datos.
+     *
+     * @param id Identificador del producto
+     * @return Producto en caché, o null si no está
+     */
+    public ProductoResponse buscar(Long id) {
+        return cache.get(id, ProductoResponse.class);
+    }
+
+    /**
+     * Elimina de la caché el producto de un cambio confirmado y rechaza desde ahora las lecturas
+     * anteriores a ese cambio.
+     *
+     * @param cambio Cambio confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alConfirmar(CambioProducto cambio) {
+        long version = cambio.getProducto() != null ? cambio.getProducto().getVersion() : VERSION_ELIMINADO;
+        versionesMinimas.merge(cambio.getId(), version, Math::max);
+        cache.evict(cambio.getId());
+    }
+
+    /**
+     * Guarda un producto leído de la base de datos si no es anterior al último cambio confirmado.
+     *
+     * @param producto Producto leído
+     */
+    private void guardar(ProductoResponse producto) {
+        if (!vigente(producto)) {
+            return;
+        }
+        cache.put(producto.getId(), producto);
+        // Un cambio confirmado entre la verificación y el put no llegó a eliminar esta entrada
+        if (!vigente(producto)) {
+            cache.evict(producto.getId());
+        }
+    }
+
+    private boolean vigente(ProductoResponse producto) {
+        Long minima = versionesMinimas.get(producto.getId());
+        return minima == null || producto.getVersion() >= minima;
+    }
+}
@@ -0,0 +1,75 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utilidad para codificar y decodificar los cursores opacos de la paginación por keyset.
+ * Un cursor contiene los valores de las columnas de ordenamiento del último elemento entregado.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+final class Cursor {
+
+    private static final String SEPARADOR = "|";
+
+    private Cursor() {
+    }
+
+    /**
+     * Codifica los valores indicados como un cursor opaco seguro para URLs.
+     * 
+     * @param valores Valores de las columnas de ordenamiento
+     * @return Cursor codificado
+     */
+    static String codificar(Object... valores) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARADOR);
+            }
+            sb.append(valores[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor y valida que contenga la cantidad de valores esperada.
+     * 
+     * @param cursor Cursor recibido del cliente
+     * @param cantidad Cantidad de valores esperados
+     * @return Valores contenidos en el cursor
+     * @throws BadRequestException si el cursor no es válido
+     */
+    static String[] decodificar(String cursor, int cantidad) {
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] valores = texto.split("\\" + SEPARADOR, -1);
+            if (valores.length != cantidad) {
+                throw new BadRequestException("El cursor de paginación no es válido");
+            }
+            return valores;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("El cursor de paginación no es válido");
+        }
+    }
+
+    /**
+     * Decodifica un cursor que contiene únicamente un identificador.
+     * 
+     * @param cursor Cursor recibido del cliente
+     * @return Identificador contenido en el cursor
+     * @throws BadRequestException si el cursor no es válido
+     */
+    static Long decodificarId(String cursor) {
+        try {
+            return Long.valueOf(decodificar(cursor, 1)[0]);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("El cursor de paginación no es válido");
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.universidad.crud.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.crud.dto.CambioProducto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Difunde los cambios de productos a los suscriptores conectados por Server-Sent Events.
+ * Los cambios se reciben después de confirmar la transacción que los produjo, por lo que nunca
+ * se informa un cambio revertido.
+ * 
+ * Cada evento tiene un identificador "instancia-secuencia" que el cliente reenvía en la cabecera
+ * Last-Event-ID al reconectarse; los eventos recientes se conservan en un historial acotado para
+ * reenviarlos. Cada suscriptor tiene una cola acotada: si no consume a tiempo y su cola se llena,
+ * se desconecta y puede reanudar desde su último evento. Si el evento ya no está en el historial
+ * (o la instancia se reinició), recibe el evento "sincronizar" y debe ponerse al día con /cambios.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class EmisorEventosProductos implements DisposableBean {
+
+    /**
+     * Nombre de los eventos de cambio de producto.
+     */
+    public static final String EVENTO_PRODUCTO = "producto";
+
+    /**
+     * Nombre del evento que indica al cliente que debe sincronizarse con el flujo de cambios.
+     */
+    public static final String EVENTO_SINCRONIZAR = "sincronizar";
+
+    private final String instancia = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Object bloqueo = new Object();
+    private final Deque<Evento> historial = new ArrayDeque<>();
+    private final Set<Suscriptor> suscriptores = ConcurrentHashMap.newKeySet();
+    private long secuencia;
+
+    private final ObjectMapper objectMapper;
+    private final int capacidadCola;
+    private final int tamanioHistorial;
+    private final Duration tiempoMaximo;
+    private final ExecutorService envio;
+    private final ScheduledExecutorService latidos;
+    private final Counter publicados;
+    private final Counter descartados;
+
+    public EmisorEventosProductos(ObjectMapper objectMapper,
+                                  @Value("${productos.eventos.capacidad-cola:2000}") int capacidadCola,
+                                  @Value("${productos.eventos.historial:5000}") int tamanioHistorial,
+                                  @Value("${productos.eventos.hilos-envio:4}") int hilosEnvio,
+                                  @Value("${productos.eventos.tiempo-maximo:30m}") Duration tiempoMaximo,
+                                  @Value("${productos.eventos.latido:15s}") Duration latido,
+                                  MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.capacidadCola = capacidadCola;
+        this.tamanioHistorial = tamanioHistorial;
+        this.tiempoMaximo = tiempoMaximo;
+        // Como máximo una tarea pendiente por suscriptor: la cola del pool está acotada por los suscriptores
+        this.envio = ExecutorServiceMetrics.monitor(meterRegistry,
+                new ThreadPoolExecutor(hilosEnvio, hilosEnvio, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(), new CustomizableThreadFactory("sse-")),
+                "productos.eventos");
+        this.latidos = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("sse-latido-"));
+        this.latidos.scheduleAtFixedRate(this::enviarLatidos, latido.toMillis(), latido.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("productos.eventos.suscriptores", suscriptores, Set::size)
+                .description("Suscriptores conectados al flujo de eventos de productos")
+                .register(meterRegistry);
+        this.publicados = Counter.builder("productos.eventos.publicados")
+                .description("Eventos de cambio de productos publicados")
+                .register(meterRegistry);
+        this.descartados = Counter.builder("productos.eventos.descartados")
+                .description("Suscriptores desconectados por no consumir los eventos a tiempo")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra un nuevo suscriptor y, si indica el último evento recibido, le reenvía los eventos
+     * posteriores que aún están en el historial.
+     * 
+     * @param ultimoEventoId Valor de Last-Event-ID enviado por el cliente (puede ser null)
+     * @param ids Identificadores de los productos de interés (vacío para todos)
+     * @return Emisor SSE asociado a la conexión
+     */
+    public SseEmitter suscribir(String ultimoEventoId, Set<Long> ids) {
+        SseEmitter emitter = new SseEmitter(tiempoMaximo.toMillis());
+        Suscriptor suscriptor = new Suscriptor(emitter, ids);
+        emitter.onCompletion(() -> suscriptores.remove(suscriptor));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> suscriptores.remove(suscriptor));
+
+        synchronized (bloqueo) {
+            List<Evento> pendientes = pendientesDesde(ultimoEventoId);
+            if (pendientes == null || pendientes.size() > capacidadCola) {
+                suscriptor.encolar(Evento.SINCRONIZAR);
+            } else {
+                pendientes.stream().filter(suscriptor::interesa).forEach(suscriptor::encolar);
+            }
+            suscriptores.add(suscriptor);
+        }
+        log.info("Nuevo suscriptor de eventos de productos (último evento: {}, productos: {}); {} conectados",
+                ultimoEventoId, ids.isEmpty() ? "todos" : ids, suscriptores.size());
+        programarEnvio(suscriptor);
+        return emitter;
+    }
+
+    /**
+     * Publica a los suscriptores un cambio ya confirmado en la base de datos.
+     * Solo encola el evento: el envío se realiza en el pool de envío, sin bloquear la petición que
+     * produjo el cambio.
+     * 
+     * @param cambio Cambio de producto confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alConfirmar(CambioProducto cambio) {
+        String datos = serializar(cambio);
+        List<Suscriptor> destinatarios = new ArrayList<>();
+        synchronized (bloqueo) {
+            Evento evento = new Evento(++secuencia, instancia + "-" + secuencia, cambio.getId(), datos);
+            historial.addLast(evento);
+            if (historial.size() > tamanioHistorial) {
+                historial.removeFirst();
+            }
+            for (Suscriptor suscriptor : suscriptores) {
+                if (!suscriptor.interesa(evento)) {
+                    continue;
+                }
+                if (suscriptor.encolar(evento)) {
+                    destinatarios.add(suscriptor);
+                } else {
+                    descartar(suscriptor);
+                }
+            }
+        }
+        publicados.increment();
+        destinatarios.forEach(this::programarEnvio);
+    }
+
+    /**
+     * Obtiene los eventos del historial posteriores al indicado.
+     * 
+     * @param ultimoEventoId Identificador del último evento recibido por el cliente (puede ser null)
+     * @return Eventos posteriores (vacío si no hay), o null si el evento ya no está en el historial
+     */
+    private List<Evento> pendientesDesde(String ultimoEventoId) {
+        if (!StringUtils.hasText(ultimoEventoId)) {
+            return Collections.emptyList();
+        }
+        int separador = ultimoEventoId.lastIndexOf('-');
+        if (separador < 0 || !instancia.equals(ultimoEventoId.substring(0, separador))) {
+            return null;
+        }
+        long ultimo;
+        try {
+            ultimo = Long.parseLong(ultimoEventoId.substring(separador + 1));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        long primero = historial.isEmpty() ? secuencia + 1 : historial.getFirst().secuencia;
+        if (ultimo > secuencia || ultimo < primero - 1) {
+            return null;
+        }
+        List<Evento> pendientes = new ArrayList<>();
+        for (Evento evento : historial) {
+            if (evento.secuencia > ultimo) {
+                pendientes.add(evento);
+            }
+        }
+        return pendientes;
+    }
+
+    /**
+     * Desconecta a un suscriptor cuya cola está llena. El cierre se realiza en el pool de envío,
+     * ya que la conexión puede estar bloqueada en una escritura.
+     */
+    private void descartar(Suscriptor suscriptor) {
+        if (!suscriptores.remove(suscriptor)) {
+            return;
+        }
+        suscriptor.cerrar();
+        descartados.increment();
+        log.warn("Suscriptor de eventos desconectado por cola llena ({} eventos sin enviar)", capacidadCola);
+        envio.execute(suscriptor.emitter::complete);
+    }
+
+    /**
+     * Programa el envío de los eventos encolados del suscriptor si no hay un envío en curso.
+     */
+    private void programarEnvio(Suscriptor suscriptor) {
+        if (suscriptor.iniciarEnvio()) {
+            envio.execute(() -> enviar(suscriptor));
+        }
+    }
+
+    /**
+     * Envía los eventos encolados del suscriptor hasta vaciar su cola.
+     */
+    private void enviar(Suscriptor suscriptor) {
+        Evento evento;
+        while ((evento = suscriptor.siguiente()) != null) {
+            try {
+                suscriptor.emitter.send(evento.construir());
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Suscriptor de eventos desconectado: {}", ex.getMessage());
+                suscriptores.remove(suscriptor);
+                suscriptor.cerrar();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Envía un comentario a cada suscriptor para mantener abierta la conexión en proxies y
+     * balanceadores, y detectar clientes desconectados.
+     */
+    private void enviarLatidos() {
+        for (Suscriptor suscriptor : suscriptores) {
+            if (suscriptor.encolar(Evento.LATIDO)) {
+                programarEnvio(suscriptor);
+            } else {
+                synchronized (bloqueo) {
+                    descartar(suscriptor);
+                }
+            }
+        }
+    }
+
+    private String serializar(CambioProducto cambio) {
+        try {
+            return objectMapper.writeValueAsString(cambio);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        latidos.shutdownNow();
+        for (Suscriptor suscriptor : suscriptores) {
+            suscriptor.cerrar();
+            suscriptor.emitter.complete();
+        }
+        suscriptores.clear();
+        envio.shutdown();
+        envio.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Evento del flujo, serializado una sola vez para todos los suscriptores.
+     */
+    private static final class Evento {
+        private static final Evento LATIDO = new Evento(0, null, null, null);
+        private static final Evento SINCRONIZAR = new Evento(0, null, null, null);
+
+        private final long secuencia;
+        private final String id;
+        private final Long productoId;
+        private final String datos;
+
+        private Evento(long secuencia, String id, Long productoId, String datos) {
+            this.secuencia = secuencia;
+            this.id = id;
+            this.productoId = productoId;
+            this.datos = datos;
+        }
+
+        private SseEmitter.SseEventBuilder construir() {
+            if (this == LATIDO) {
+                return SseEmitter.event().comment("latido");
+            }
+            if (this == SINCRONIZAR) {
+                return SseEmitter.event().name(EVENTO_SINCRONIZAR)
+                        .data("Eventos no disponibles desde el último recibido; sincronice con /api/v1/productos/cambios");
+            }
+            return SseEmitter.event().id(id).name(EVENTO_PRODUCTO).data(datos, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * Conexión de un suscriptor, con su cola acotada de eventos pendientes de envío.
+     */
+    private final class Suscriptor {
+        private final SseEmitter emitter;
+        private final Set<Long> ids;
+        private final Deque<Evento> cola = new ArrayDeque<>();
+        private boolean enviando;
+        private boolean cerrado;
+
+        private Suscriptor(SseEmitter emitter, Set<Long> ids) {
+            this.emitter = emitter;
+            this.ids = ids;
+        }
+
+        private boolean interesa(Evento evento) {
+            return ids.isEmpty() || ids.contains(evento.productoId);
+        }
+
+        private synchronized boolean encolar(Evento evento) {
+            if (cerrado) {
+                return true;
+            }
+            if (cola.size() >= capacidadCola) {
+                return false;
+            }
+            cola.addLast(evento);
+            return true;
+        }
+
+        private synchronized boolean iniciarEnvio() {
+            if (enviando || cerrado || cola.isEmpty()) {
+                return false;
+            }
+            enviando = true;
+            return true;
+        }
+
+        private synchronized Evento siguiente() {
+            Evento evento = cerrado ? null : cola.pollFirst();
+            if (evento == null) {
+                enviando = false;
+            }
+            return evento;
+        }
+
+        private synchronized void cerrar() {
+            cerrado = true;
+            cola.clear();
+        }
+    }
+}
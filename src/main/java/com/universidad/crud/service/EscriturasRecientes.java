@@ -0,0 +1,53 @@
+package com.universidad.crud.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.universidad.crud.dto.CambioProducto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Productos modificados por esta instancia durante el retraso tolerado de las réplicas de lectura.
+ * Sus lecturas por ID se hacen en la primaria, de modo que una réplica atrasada no devuelva
+ * (ni deje en las cachés) la versión anterior a una escritura recién confirmada.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+public class EscriturasRecientes {
+
+    private final Cache<Long, Boolean> ids;
+
+    public EscriturasRecientes(@Value("${productos.datasource.replicas.retraso-maximo:2s}") Duration retrasoMaximo,
+                               @Value("${productos.datasource.replicas.intervalo-verificacion:1s}") Duration intervalo) {
+        // El retraso real de una réplica disponible puede superar el medido hasta en un intervalo
+        this.ids = Caffeine.newBuilder()
+                .expireAfterWrite(retrasoMaximo.plus(intervalo))
+                .build();
+    }
+
+    /**
+     * Registra el producto de un cambio confirmado.
+     *
+     * @param cambio Cambio confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alConfirmar(CambioProducto cambio) {
+        ids.put(cambio.getId(), Boolean.TRUE);
+    }
+
+    /**
+     * Indica si el producto se modificó hace menos que el retraso tolerado de las réplicas.
+     *
+     * @param id Identificador del producto
+     * @return true si la lectura debe hacerse en la primaria
+     */
+    public boolean contiene(Long id) {
+        return ids.getIfPresent(id) != null;
+    }
+}
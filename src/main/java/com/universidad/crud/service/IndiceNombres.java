@@ -0,0 +1,448 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.model.ProductoEliminado;
+import com.universidad.crud.repository.ProductoEliminadoRepository;
+import com.universidad.crud.repository.ProductoNombre;
+import com.universidad.crud.repository.ProductoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido de trigramas sobre el nombre de los productos.
+ * Permite resolver búsquedas parciales por nombre en memoria, evitando el recorrido completo
+ * de la tabla que implica LOWER(nombre) LIKE '%texto%'. Se carga al iniciar la aplicación y
+ * se mantiene actualizado con las operaciones de escritura una vez confirmada la transacción.
+ * Los cambios hechos fuera de esta instancia (otras instancias o escrituras directas en la base de
+ * datos) se aplican periódicamente desde el flujo de cambios: los productos con fecha de actualización
+ * y las eliminaciones registradas después de la última posición sincronizada.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class IndiceNombres implements DisposableBean {
+
+    private static final int N = 3;
+
+    /**
+     * Cantidad de cambios leídos por consulta durante la sincronización.
+     */
+    private static final int LOTE_SINCRONIZACION = 500;
+
+    private final ProductoRepository productoRepository;
+    private final ProductoEliminadoRepository productoEliminadoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final boolean habilitado;
+    private final Duration margenCambios;
+    private final ScheduledExecutorService sincronizaciones;
+
+    /**
+     * Nombre normalizado de cada producto indexado.
+     */
+    private final Map<Long, String> nombres = new ConcurrentHashMap<>();
+
+    /**
+     * Identificadores de los productos que contienen cada trigrama.
+     */
+    private final Map<String, Set<Long>> trigramas = new ConcurrentHashMap<>();
+
+    /**
+     * Productos modificados mientras se realiza la carga inicial; la carga no debe sobrescribirlos.
+     */
+    private final Set<Long> modificadosDuranteCarga = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Última posición sincronizada del flujo de cambios, por tabla. Solo la modifica un hilo a la vez
+     * (la carga inicial antes de marcar el índice como listo y luego la sincronización periódica).
+     */
+    private final Posicion productosSincronizados = new Posicion();
+    private final Posicion eliminadosSincronizados = new Posicion();
+
+    private volatile boolean cargando;
+    private volatile boolean listo;
+
+    public IndiceNombres(ProductoRepository productoRepository,
+                         ProductoEliminadoRepository productoEliminadoRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                         @Value("${productos.busqueda.indice.habilitado:true}") boolean habilitado,
+                         @Value("${productos.busqueda.indice.sincronizacion:30s}") Duration sincronizacion,
+                         @Value("${productos.cambios.margen-consistencia:2s}") Duration margenCambios) {
+        this.productoRepository = productoRepository;
+        this.productoEliminadoRepository = productoEliminadoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.habilitado = habilitado;
+        this.margenCambios = margenCambios;
+        if (habilitado && !sincronizacion.isZero() && !sincronizacion.isNegative()) {
+            this.sincronizaciones = Executors.newSingleThreadScheduledExecutor(
+                    new CustomizableThreadFactory("indice-nombres-"));
+            this.sincronizaciones.scheduleWithFixedDelay(this::sincronizarPeriodicamente,
+                    sincronizacion.toMillis(), sincronizacion.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.sincronizaciones = null;
+        }
+    }
+
+    /**
+     * Inicia la carga del índice en segundo plano una vez que la aplicación está lista.
+     * Mientras la carga no finalice, las búsquedas se resuelven en la base de datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarCarga() {
+        if (!habilitado) {
+            log.info("Índice de búsqueda por nombre deshabilitado");
+            return;
+        }
+        taskExecutor.execute(this::cargar);
+    }
+
+    /**
+     * Indica si el índice terminó su carga inicial y puede responder búsquedas.
+     *
+     * @return true si el índice está disponible
+     */
+    public boolean estaListo() {
+        return listo;
+    }
+
+    /**
+     * Registra o actualiza el nombre de un producto en el índice.
+     * Si existe una transacción activa, el cambio se aplica después de confirmarla.
+     *
+     * @param id Identificador del producto
+     * @param nombre Nombre actual del producto
+     */
+    public void indexar(Long id, String nombre) {
+        alConfirmar(() -> {
+            if (cargando) {
+                modificadosDuranteCarga.add(id);
+            }
+            reemplazar(id, nombre);
+        });
+    }
+
+    /**
+     * Elimina un producto del índice.
+     * Si existe una transacción activa, el cambio se aplica después de confirmarla.
+     *
+     * @param ids Identificadores de los productos eliminados
+     */
+    public void eliminar(Collection<Long> ids) {
+        alConfirmar(() -> {
+            for (Long id : ids) {
+                if (cargando) {
+                    modificadosDuranteCarga.add(id);
+                }
+                reemplazar(id, null);
+            }
+        });
+    }
+
+    /**
+     * Aplica al índice los cambios del flujo de cambios posteriores a la última posición sincronizada:
+     * los productos creados o modificados y las eliminaciones, incluidas las hechas por otras instancias.
+     * Como en el flujo de cambios, solo se leen los cambios con más de productos.cambios.margen-consistencia
+     * de antigüedad, para no dejar atrás una transacción que aún no confirmó. Cada fila se aplica con su
+     * valor actual en la base de datos, de modo que volver a aplicar un cambio ya indexado no tiene efecto.
+     * No hace nada mientras el índice no termine su carga inicial.
+     */
+    public void sincronizar() {
+        if (!listo) {
+            return;
+        }
+        LocalDateTime hasta = LocalDateTime.now().minus(margenCambios);
+        Integer aplicados = transactionTemplate.execute(
+                estado -> sincronizarProductos(hasta) + sincronizarEliminados(hasta));
+        if (aplicados != null && aplicados > 0) {
+            log.debug("Índice de búsqueda por nombre sincronizado: {} cambios", aplicados);
+        }
+    }
+
+    /**
+     * Detiene la sincronización periódica.
+     */
+    @Override
+    public void destroy() {
+        if (sincronizaciones != null) {
+            sincronizaciones.shutdownNow();
+        }
+    }
+
+    /**
+     * Busca los productos cuyo nombre contiene el texto indicado, ordenados por relevancia:
+     * primero las coincidencias al inicio del nombre, luego por posición de la coincidencia,
+     * por longitud del nombre y finalmente por ID.
+     *
+     * @param texto Texto a buscar (sin distinguir mayúsculas)
+     * @param limite Cantidad máxima de resultados
+     * @return Identificadores de los productos encontrados en orden de relevancia
+     */
+    public List<Long> buscar(String texto, int limite) {
+        String consulta = normalizar(texto);
+        Comparator<Coincidencia> relevancia = Comparator
+                .comparingInt((Coincidencia c) -> c.posicion)
+                .thenComparingInt(c -> c.longitud)
+                .thenComparingLong(c -> c.id);
+        // Montículo con la peor coincidencia en la cima para conservar solo las mejores
+        PriorityQueue<Coincidencia> mejores = new PriorityQueue<>(limite + 1, relevancia.reversed());
+
+        for (Long id : candidatos(consulta)) {
+            String nombre = nombres.get(id);
+            if (nombre == null) {
+                continue;
+            }
+            int posicion = nombre.indexOf(consulta);
+            if (posicion < 0) {
+                continue;
+            }
+            mejores.offer(new Coincidencia(id, posicion, nombre.length()));
+            if (mejores.size() > limite) {
+                mejores.poll();
+            }
+        }
+
+        List<Coincidencia> ordenadas = new ArrayList<>(mejores);
+        ordenadas.sort(relevancia);
+        List<Long> ids = new ArrayList<>(ordenadas.size());
+        for (Coincidencia coincidencia : ordenadas) {
+            ids.add(coincidencia.id);
+        }
+        return ids;
+    }
+
+    /**
+     * Obtiene los productos candidatos para la consulta intersectando las listas de sus trigramas.
+     * Las consultas de menos de tres caracteres recorren todos los nombres indexados.
+     */
+    private Collection<Long> candidatos(String consulta) {
+        if (consulta.length() < N) {
+            return nombres.keySet();
+        }
+        List<Set<Long>> listas = new ArrayList<>();
+        for (String trigrama : trigramasDe(consulta)) {
+            Set<Long> lista = trigramas.get(trigrama);
+            if (lista == null) {
+                return Collections.emptyList();
+            }
+            listas.add(lista);
+        }
+        listas.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> menor = listas.get(0);
+        List<Long> resultado = new ArrayList<>();
+        for (Long id : menor) {
+            boolean enTodas = true;
+            for (int i = 1; i < listas.size() && enTodas; i++) {
+                enTodas = listas.get(i).contains(id);
+            }
+            if (enTodas) {
+                resultado.add(id);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Carga el índice completo recorriendo los nombres de la base de datos.
+     */
+    private void cargar() {
+        long inicio = System.currentTimeMillis();
+        cargando = true;
+        // Los cambios confirmados desde este punto los aplicará la sincronización (los anteriores al margen
+        // se vuelven a aplicar sin efecto)
+        LocalDateTime desde = LocalDateTime.now().minus(margenCambios);
+        productosSincronizados.avanzar(desde, 0L);
+        eliminadosSincronizados.avanzar(desde, 0L);
+        try {
+            Integer total = transactionTemplate.execute(estado -> {
+                int cantidad = 0;
+                try (Stream<ProductoNombre> filas = productoRepository.streamNombres()) {
+                    for (ProductoNombre fila : (Iterable<ProductoNombre>) filas::iterator) {
+                        cargarFila(fila.getId(), fila.getNombre());
+                        cantidad++;
+                    }
+                }
+                return cantidad;
+            });
+            listo = true;
+            log.info("Índice de búsqueda por nombre cargado: {} productos en {} ms",
+                    total, System.currentTimeMillis() - inicio);
+        } catch (RuntimeException ex) {
+            log.error("No fue posible cargar el índice de búsqueda por nombre; se usará la base de datos", ex);
+        } finally {
+            cargando = false;
+            modificadosDuranteCarga.clear();
+        }
+    }
+
+    /**
+     * Sincroniza el índice capturando los errores, para que un fallo no detenga las ejecuciones periódicas.
+     */
+    private void sincronizarPeriodicamente() {
+        try {
+            sincronizar();
+        } catch (RuntimeException ex) {
+            log.warn("No fue posible sincronizar el índice de búsqueda por nombre: {}", ex.getMessage());
+        }
+    }
+
+    private int sincronizarProductos(LocalDateTime hasta) {
+        Pageable lote = PageRequest.of(0, LOTE_SINCRONIZACION);
+        int aplicados = 0;
+        List<ProductoResponse> cambios;
+        do {
+            cambios = productoRepository.findCambiosDesde(
+                    productosSincronizados.fecha, productosSincronizados.id, hasta, lote);
+            for (ProductoResponse producto : cambios) {
+                reemplazar(producto.getId(), producto.getNombre());
+                productosSincronizados.avanzar(producto.getFechaActualizacion(), producto.getId());
+            }
+            aplicados += cambios.size();
+        } while (cambios.size() == LOTE_SINCRONIZACION);
+        return aplicados;
+    }
+
+    private int sincronizarEliminados(LocalDateTime hasta) {
+        Pageable lote = PageRequest.of(0, LOTE_SINCRONIZACION);
+        int aplicados = 0;
+        List<ProductoEliminado> eliminados;
+        do {
+            eliminados = productoEliminadoRepository.findEliminadosDesde(
+                    eliminadosSincronizados.fecha, eliminadosSincronizados.id, hasta, lote);
+            for (ProductoEliminado eliminado : eliminados) {
+                reemplazar(eliminado.getId(), null);
+                eliminadosSincronizados.avanzar(eliminado.getFechaEliminacion(), eliminado.getId());
+            }
+            aplicados += eliminados.size();
+        } while (eliminados.size() == LOTE_SINCRONIZACION);
+        return aplicados;
+    }
+
+    /**
+     * Registra un nombre leído durante la carga inicial, salvo que el producto haya sido
+     * modificado mientras tanto (en cuyo caso el valor leído podría estar desactualizado).
+     */
+    private synchronized void cargarFila(Long id, String nombre) {
+        if (!modificadosDuranteCarga.contains(id)) {
+            reemplazar(id, nombre);
+        }
+    }
+
+    /**
+     * Reemplaza el nombre indexado de un producto (null para eliminarlo).
+     */
+    private synchronized void reemplazar(Long id, String nombre) {
+        String anterior = nombre != null ? nombres.put(id, normalizar(nombre)) : nombres.remove(id);
+        if (anterior != null) {
+            for (String trigrama : trigramasDe(anterior)) {
+                Set<Long> lista = trigramas.get(trigrama);
+                if (lista != null) {
+                    lista.remove(id);
+                    if (lista.isEmpty()) {
+                        trigramas.remove(trigrama);
+                    }
+                }
+            }
+        }
+        if (nombre != null) {
+            for (String trigrama : trigramasDe(normalizar(nombre))) {
+                trigramas.computeIfAbsent(trigrama, t -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Ejecuta la acción después de confirmar la transacción activa, o de inmediato si no hay una.
+     */
+    private void alConfirmar(Runnable accion) {
+        if (!habilitado) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+
+    private static Set<String> trigramasDe(String texto) {
+        Set<String> resultado = new LinkedHashSet<>();
+        for (int i = 0; i + N <= texto.length(); i++) {
+            resultado.add(texto.substring(i, i + N));
+        }
+        return resultado;
+    }
+
+    private static String normalizar(String texto) {
+        return texto == null ? "" : texto.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Posición (fecha, id) del último cambio sincronizado de una tabla.
+     */
+    private static final class Posicion {
+        private volatile LocalDateTime fecha;
+        private volatile Long id;
+
+        private void avanzar(LocalDateTime fecha, Long id) {
+            this.fecha = fecha;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Coincidencia de una búsqueda con los datos necesarios para ordenarla por relevancia.
+     */
+    private static final class Coincidencia {
+        private final long id;
+        private final int posicion;
+        private final int longitud;
+
+        private Coincidencia(long id, int posicion, int longitud) {
+            this.id = id;
+            this.posicion = posicion;
+            this.longitud = longitud;
+        }
+    }
+}
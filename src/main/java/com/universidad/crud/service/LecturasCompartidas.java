@@ -0,0 +1,180 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.dto.CambioProducto;
+import com.universidad.crud.dto.MarcaVersion;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.VistaProducto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Agrupación de lecturas concurrentes idénticas (single-flight).
+ * Cuando varias peticiones consultan a la vez el mismo producto (su versión o sus datos) o la misma
+ * búsqueda por nombre, solo la primera ejecuta la consulta en la base de datos; las demás esperan y
+ * reciben su resultado (o su excepción). Al confirmarse un cambio de productos se olvidan las cargas en curso, para que
+ * las peticiones posteriores a la escritura no reciban un resultado leído antes de ella.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class LecturasCompartidas {
+
+    private final CargaUnica<Long, MarcaVersion> versiones;
+    private final CargaUnica<Long, ProductoResponse> productos;
+    private final CargaUnica<List<Object>, List<?>> busquedas;
+    private final boolean habilitada;
+
+    public LecturasCompartidas(@Value("${productos.lecturas.carga-unica.habilitada:true}") boolean habilitada,
+                               MeterRegistry meterRegistry) {
+        this.habilitada = habilitada;
+        this.versiones = new CargaUnica<>("version-por-id", meterRegistry);
+        this.productos = new CargaUnica<>("obtener-por-id", meterRegistry);
+        this.busquedas = new CargaUnica<>("buscar-por-nombre", meterRegistry);
+        log.info("Agrupación de lecturas concurrentes {}", habilitada ? "habilitada" : "deshabilitada");
+    }
+
+    /**
+     * Obtiene la marca de versión de un producto compartiendo la consulta con las peticiones
+     * concurrentes por el mismo ID (la consultan las lecturas condicionales de productos que no están en caché).
+     *
+     * @param id Identificador del producto
+     * @param carga Consulta a la base de datos
+     * @return Marca de versión del producto
+     */
+    public MarcaVersion obtenerMarcaVersion(Long id, Supplier<MarcaVersion> carga) {
+        return habilitada ? versiones.cargar(id, carga) : carga.get();
+    }
+
+    /**
+     * Obtiene un producto por su ID compartiendo la consulta con las peticiones concurrentes por el mismo ID.
+     *
+     * @param id Identificador del producto
+     * @param carga Consulta a la base de datos
+     * @return Producto encontrado
+     */
+    public ProductoResponse obtenerPorId(Long id, Supplier<ProductoResponse> carga) {
+        return habilitada ? productos.cargar(id, carga) : carga.get();
+    }
+
+    /**
+     * Busca productos por nombre compartiendo la consulta con las búsquedas concurrentes idénticas.
+     *
+     * @param vista Vista de los elementos devueltos (forma parte de la clave)
+     * @param nombre Texto a buscar
+     * @param limite Límite ya normalizado
+     * @param carga Consulta a la base de datos
+     * @return Elementos encontrados
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> buscarPorNombre(VistaProducto vista, String nombre, int limite, Supplier<List<T>> carga) {
+        if (!habilitada) {
+            return carga.get();
+        }
+        // La vista en la clave garantiza que el tipo de los elementos compartidos sea T
+        return (List<T>) busquedas.cargar(Arrays.asList(vista, nombre, limite), carga::get);
+    }
+
+    /**
+     * Olvida las cargas en curso afectadas por un cambio confirmado.
+     * Las peticiones que ya esperan reciben el resultado en curso; las nuevas consultan de nuevo.
+     *
+     * @param cambio Cambio confirmado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void alConfirmar(CambioProducto cambio) {
+        versiones.olvidar(cambio.getId());
+        productos.olvidar(cambio.getId());
+        // Cualquier cambio puede alterar el resultado de cualquier búsqueda por nombre
+        busquedas.olvidarTodo();
+    }
+
+    /**
+     * Cargas en curso de una operación, indexadas por clave.
+     *
+     * @param <K> Tipo de la clave
+     * @param <V> Tipo del resultado
+     */
+    static final class CargaUnica<K, V> {
+
+        private final ConcurrentMap<K, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+        private final Counter ejecutadas;
+        private final Counter agrupadas;
+
+        CargaUnica(String operacion, MeterRegistry meterRegistry) {
+            this.ejecutadas = Counter.builder("productos.lecturas.cargas")
+                    .description("Lecturas ejecutadas en la base de datos")
+                    .tag("operacion", operacion)
+                    .register(meterRegistry);
+            this.agrupadas = Counter.builder("productos.lecturas.agrupadas")
+                    .description("Lecturas resueltas con la carga en curso de otra petición")
+                    .tag("operacion", operacion)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Ejecuta la carga en el hilo actual o, si ya hay una en curso para la clave, espera su resultado.
+         *
+         * @param clave Clave de la lectura
+         * @param carga Consulta a ejecutar
+         * @return Resultado de la carga
+         */
+        V cargar(K clave, Supplier<V> carga) {
+            CompletableFuture<V> nueva = new CompletableFuture<>();
+            CompletableFuture<V> existente = enCurso.putIfAbsent(clave, nueva);
+            if (existente != null) {
+                agrupadas.increment();
+                return esperar(existente);
+            }
+            ejecutadas.increment();
+            try {
+                V valor = carga.get();
+                nueva.complete(valor);
+                return valor;
+            } catch (RuntimeException | Error ex) {
+                nueva.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                enCurso.remove(clave, nueva);
+            }
+        }
+
+        void olvidar(K clave) {
+            enCurso.remove(clave);
+        }
+
+        void olvidarTodo() {
+            enCurso.clear();
+        }
+
+        private V esperar(CompletableFuture<V> carga) {
+            try {
+                return carga.join();
+            } catch (CompletionException ex) {
+                // Se propaga la misma excepción de la carga (p. ej. ResourceNotFoundException → 404)
+                Throwable causa = ex.getCause();
+                if (causa instanceof RuntimeException) {
+                    throw (RuntimeException) causa;
+                }
+                if (causa instanceof Error) {
+                    throw (Error) causa;
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.universidad.crud.service;
+
+/**
+ * Utilidad para construir los patrones LIKE de la búsqueda por nombre a partir del texto del usuario.
+ * Los comodines {@code %} y {@code _} y el carácter de escape se escapan con {@code \}, de modo que
+ * se buscan de forma literal; las consultas declaran {@code ESCAPE '\'}.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+final class PatronLike {
+
+    private static final char ESCAPE = '\\';
+
+    private PatronLike() {
+    }
+
+    /**
+     * Construye el patrón que encuentra los valores que contienen el texto indicado.
+     * 
+     * @param texto Texto a buscar
+     * @return Patrón LIKE ({@code %texto%}) con los comodines del texto escapados
+     */
+    static String contiene(String texto) {
+        StringBuilder sb = new StringBuilder(texto.length() + 2).append('%');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == ESCAPE || c == '%' || c == '_') {
+                sb.append(ESCAPE);
+            }
+            sb.append(c);
+        }
+        return sb.append('%').toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductoResumenResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Interfaz que define las operaciones de lectura reactivas sobre productos (perfil reactivo).
+ * Los resultados y las validaciones coinciden con los de {@link ProductoService}.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+public interface ProductoReactivoService {
+
+    /**
+     * Recorre todos los productos ordenados por ID, para la exportación en flujo (NDJSON).
+     * 
+     * @return Flujo de productos
+     */
+    Flux<ProductoResponse> exportar();
+
+    /**
+     * Recorre todos los productos ordenados por ID en la vista resumida, para la exportación en flujo.
+     * 
+     * @return Flujo de productos
+     */
+    Flux<ProductoResumenResponse> exportarResumen();
+
+    /**
+     * Obtiene una página de productos ordenada por ID utilizando paginación por cursor (keyset).
+     * 
+     * @param cursor Cursor devuelto en la página anterior (null para la primera página)
+     * @param limite Cantidad máxima de productos (null para usar el valor por defecto)
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el cursor o el límite no son válidos
+     */
+    Mono<PaginaResponse<ProductoResponse>> obtenerPagina(String cursor, Integer limite);
+
+    /**
+     * Obtiene una página de productos ordenada por ID, en la vista resumida.
+     * 
+     * @param cursor Cursor devuelto en la página anterior (null para la primera página)
+     * @param limite Cantidad máxima de productos (null para usar el valor por defecto)
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el cursor o el límite no son válidos
+     */
+    Mono<PaginaResponse<ProductoResumenResponse>> obtenerPaginaResumen(String cursor, Integer limite);
+
+    /**
+     * Obtiene un producto por su ID.
+     * 
+     * @param id Identificador del producto
+     * @return Producto encontrado, o error {@link com.universidad.crud.exception.ResourceNotFoundException}
+     */
+    Mono<ProductoResponse> obtenerPorId(Long id);
+
+    /**
+     * Busca productos por nombre, ordenados por relevancia.
+     * 
+     * @param nombre Texto a buscar en el nombre
+     * @param limite Cantidad máxima de resultados (null para usar el valor por defecto)
+     * @return Flujo de productos encontrados
+     * @throws com.universidad.crud.exception.BadRequestException si el límite no es válido
+     */
+    Flux<ProductoResponse> buscarPorNombre(String nombre, Integer limite);
+
+    /**
+     * Busca productos por nombre, ordenados por relevancia, en la vista resumida.
+     * 
+     * @param nombre Texto a buscar en el nombre
+     * @param limite Cantidad máxima de resultados (null para usar el valor por defecto)
+     * @return Flujo de productos encontrados
+     * @throws com.universidad.crud.exception.BadRequestException si el límite no es válido
+     */
+    Flux<ProductoResumenResponse> buscarResumenPorNombre(String nombre, Integer limite);
+
+    /**
+     * Obtiene una página de productos dentro de un rango de precios, ordenados por precio e ID,
+     * utilizando paginación por cursor.
+     * 
+     * @param precioMin Precio mínimo
+     * @param precioMax Precio máximo
+     * @param cursor Cursor devuelto en la página anterior (null para la primera página)
+     * @param limite Cantidad máxima de productos (null para usar el valor por defecto)
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el rango, el cursor o el límite no son válidos
+     */
+    Mono<PaginaResponse<ProductoResponse>> buscarPorRangoPrecio(BigDecimal precioMin, BigDecimal precioMax,
+                                                               String cursor, Integer limite);
+
+    /**
+     * Obtiene una página de productos dentro de un rango de precios, en la vista resumida.
+     * 
+     * @param precioMin Precio mínimo
+     * @param precioMax Precio máximo
+     * @param cursor Cursor devuelto en la página anterior (null para la primera página)
+     * @param limite Cantidad máxima de productos (null para usar el valor por defecto)
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el rango, el cursor o el límite no son válidos
+     */
+    Mono<PaginaResponse<ProductoResumenResponse>> buscarResumenPorRangoPrecio(BigDecimal precioMin,
+                                                                             BigDecimal precioMax,
+                                                                             String cursor, Integer limite);
+}
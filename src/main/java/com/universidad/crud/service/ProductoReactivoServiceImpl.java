@@ -0,0 +1,241 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductoResumenResponse;
+import com.universidad.crud.exception.BadRequestException;
+import com.universidad.crud.exception.ResourceNotFoundException;
+import com.universidad.crud.repository.reactivo.ProductoReactivoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Implementación reactiva de las consultas de productos sobre R2DBC (perfil reactivo).
+ * Aplica los mismos límites, cursores, validaciones y criterios de orden que {@link ProductoServiceImpl},
+ * incluido el uso del índice de nombres en memoria para la búsqueda por relevancia. Solo la
+ * exportación recorre la tabla completa.
+ * 
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@Service
+@Profile("reactivo")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductoReactivoServiceImpl implements ProductoReactivoService {
+
+    private final ProductoReactivoRepository productoReactivoRepository;
+    private final IndiceNombres indiceNombres;
+
+    @Value("${productos.paginacion.limite-defecto:20}")
+    private int limiteDefecto;
+
+    @Value("${productos.paginacion.limite-maximo:100}")
+    private int limiteMaximo;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<ProductoResponse> exportar() {
+        log.info("Exportando productos de forma reactiva");
+        return productoReactivoRepository.findTodosCompletos();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<ProductoResumenResponse> exportarResumen() {
+        log.info("Exportando resumen de productos de forma reactiva");
+        return productoReactivoRepository.findTodosResumenes();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PaginaResponse<ProductoResponse>> obtenerPagina(String cursor, Integer limite) {
+        return paginaPorId(cursor, limite, productoReactivoRepository::findPaginaCompleta, ProductoResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PaginaResponse<ProductoResumenResponse>> obtenerPaginaResumen(String cursor, Integer limite) {
+        return paginaPorId(cursor, limite, productoReactivoRepository::findPaginaResumen,
+                ProductoResumenResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<ProductoResponse> obtenerPorId(Long id) {
+        log.info("Buscando producto con ID de forma reactiva: {}", id);
+        return productoReactivoRepository.findCompletoPorId(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Producto", "id", id)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<ProductoResponse> buscarPorNombre(String nombre, Integer limite) {
+        return buscarPorNombre(nombre, limite, productoReactivoRepository::findCompletosPorIds,
+                productoReactivoRepository::findCompletosPorNombre, ProductoResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<ProductoResumenResponse> buscarResumenPorNombre(String nombre, Integer limite) {
+        return buscarPorNombre(nombre, limite, productoReactivoRepository::findResumenesPorIds,
+                productoReactivoRepository::findResumenesPorNombre, ProductoResumenResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PaginaResponse<ProductoResponse>> buscarPorRangoPrecio(BigDecimal precioMin, BigDecimal precioMax,
+                                                                      String cursor, Integer limite) {
+        return buscarPorRangoPrecio(precioMin, precioMax, cursor, limite,
+                productoReactivoRepository::findPaginaPorPrecioCompleta,
+                ProductoResponse::getPrecio, ProductoResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<PaginaResponse<ProductoResumenResponse>> buscarResumenPorRangoPrecio(BigDecimal precioMin,
+                                                                                    BigDecimal precioMax,
+                                                                                    String cursor, Integer limite) {
+        return buscarPorRangoPrecio(precioMin, precioMax, cursor, limite,
+                productoReactivoRepository::findPaginaPorPrecioResumen,
+                ProductoResumenResponse::getPrecio, ProductoResumenResponse::getId);
+    }
+
+    /**
+     * Busca por nombre con el índice en memoria (una consulta por clave primaria, reordenada por
+     * relevancia) o, si el índice no está disponible, con la consulta LIKE ordenada por nombre e ID.
+     */
+    private <T> Flux<T> buscarPorNombre(String nombre, Integer limite,
+                                        Function<Collection<Long>, Flux<T>> porIds,
+                                        Function<String, Flux<T>> porNombre,
+                                        Function<T, Long> id) {
+        int tamanio = normalizarLimite(limite);
+        log.info("Buscando productos por nombre de forma reactiva: {}", nombre);
+
+        if (!indiceNombres.estaListo()) {
+            log.debug("Índice de nombres no disponible; buscando en la base de datos");
+            return porNombre.apply(PatronLike.contiene(nombre)).take(tamanio);
+        }
+        List<Long> ids = indiceNombres.buscar(nombre, tamanio);
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return porIds.apply(ids)
+                .collectMap(id)
+                .flatMapMany((Map<Long, T> encontrados) -> Flux.fromIterable(ids)
+                        .map(encontrados::get)
+                        .filter(Objects::nonNull));
+    }
+
+    /**
+     * Obtiene una página ordenada por ID a partir del cursor recibido, con el mismo cursor que la API principal.
+     */
+    private <T> Mono<PaginaResponse<T>> paginaPorId(String cursor, Integer limite,
+                                                    BiFunction<Long, Integer, Flux<T>> consulta,
+                                                    Function<T, Long> id) {
+        int tamanio = normalizarLimite(limite);
+        Long ultimoId = StringUtils.hasText(cursor) ? Cursor.decodificarId(cursor) : 0L;
+        log.info("Obteniendo página de productos de forma reactiva después del ID {} con límite {}", ultimoId, tamanio);
+        return consultarPagina(tamanio, consulta.apply(ultimoId, tamanio + 1),
+                ultimo -> Cursor.codificar(id.apply(ultimo)));
+    }
+
+    /**
+     * Valida el rango de precios y obtiene la página del rango posterior al cursor recibido.
+     */
+    private <T> Mono<PaginaResponse<T>> buscarPorRangoPrecio(BigDecimal precioMin, BigDecimal precioMax,
+                                                             String cursor, Integer limite,
+                                                             ConsultaRangoPrecio<T> consulta,
+                                                             Function<T, BigDecimal> precio,
+                                                             Function<T, Long> id) {
+        if (precioMin.compareTo(precioMax) > 0) {
+            throw new BadRequestException("El precio mínimo no puede ser mayor al precio máximo");
+        }
+        int tamanio = normalizarLimite(limite);
+        BigDecimal precioCursor = precioMin;
+        Long idCursor = 0L;
+        if (StringUtils.hasText(cursor)) {
+            String[] valores = Cursor.decodificar(cursor, 2);
+            try {
+                precioCursor = new BigDecimal(valores[0]);
+                idCursor = Long.valueOf(valores[1]);
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("El cursor de paginación no es válido");
+            }
+        }
+        log.info("Buscando productos por rango de precio de forma reactiva: {} - {}", precioMin, precioMax);
+        return consultarPagina(tamanio,
+                consulta.buscar(precioMin, precioMax, precioCursor, idCursor, tamanio + 1),
+                ultimo -> Cursor.codificar(precio.apply(ultimo).toPlainString(), id.apply(ultimo)));
+    }
+
+    /**
+     * Construye la página a partir de las filas obtenidas: la consulta pide un elemento adicional
+     * para saber si existe una página siguiente.
+     */
+    private static <T> Mono<PaginaResponse<T>> consultarPagina(int tamanio, Flux<T> filas,
+                                                               Function<T, String> cursorDe) {
+        return filas.collectList().map(lista -> {
+            boolean haySiguiente = lista.size() > tamanio;
+            List<T> contenido = haySiguiente ? lista.subList(0, tamanio) : lista;
+            return PaginaResponse.<T>builder()
+                    .contenido(contenido)
+                    .siguienteCursor(haySiguiente ? cursorDe.apply(contenido.get(contenido.size() - 1)) : null)
+                    .limite(tamanio)
+                    .build();
+        });
+    }
+
+    /**
+     * Aplica el límite por defecto cuando no se indica y el límite máximo permitido.
+     */
+    private int normalizarLimite(Integer limite) {
+        if (limite == null) {
+            return limiteDefecto;
+        }
+        if (limite < 1) {
+            throw new BadRequestException("El límite debe ser mayor o igual a 1");
+        }
+        return Math.min(limite, limiteMaximo);
+    }
+
+    /**
+     * Consulta paginada por keyset sobre (precio, id).
+     */
+    @FunctionalInterface
+    private interface ConsultaRangoPrecio<T> {
+        Flux<T> buscar(BigDecimal precioMin, BigDecimal precioMax, BigDecimal precioCursor, Long idCursor, int filas);
+    }
+}
@@ -1,9 +1,20 @@
 package com.universidad.crud.service;
 
+import com.universidad.crud.dto.CambiosResponse;
+import com.universidad.crud.dto.MarcaVersion;
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoActualizacionRequest;
+import com.universidad.crud.dto.ProductoPatchRequest;
 import com.universidad.crud.dto.ProductoRequest;
 import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductoResumenResponse;
+import com.universidad.crud.dto.ProductosPorIdResponse;
+import com.universidad.crud.dto.ResultadoLoteResponse;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Interfaz que define los servicios de negocio para la gestión de productos.
@@ -15,11 +26,35 @@ import java.util.List;
 public interface ProductoService {
 
     /**
-     * Obtiene todos los productos registrados.
+     * Obtiene una página de productos ordenada por ID utilizando paginación por cursor.
      * 
-     * @return Lista de todos los productos
+     * @param cursor Cursor opaco devuelto por la página anterior, o null para la primera página
+     * @param limite Cantidad máxima de productos a devolver, o null para usar el valor por defecto
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el cursor o el límite no son válidos
      */
-    List<ProductoResponse> obtenerTodos();
+    PaginaResponse<ProductoResponse> obtenerPagina(String cursor, Integer limite);
+
+    /**
+     * Obtiene una página de productos en su vista resumida (ID, nombre y precio).
+     * Los datos se proyectan directamente desde la consulta, sin cargar entidades.
+     * 
+     * @param cursor Cursor opaco devuelto por la página anterior, o null para la primera página
+     * @param limite Cantidad máxima de productos a devolver, o null para usar el valor por defecto
+     * @return Página de productos resumidos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el cursor o el límite no son válidos
+     */
+    PaginaResponse<ProductoResumenResponse> obtenerPaginaResumen(String cursor, Integer limite);
+
+    /**
+     * Recorre el catálogo completo entregando cada producto al consumidor indicado.
+     * Los productos se leen en flujo y se desvinculan del contexto de persistencia
+     * a medida que se entregan, por lo que la memoria utilizada es constante.
+     * 
+     * @param consumidor Función que recibe cada producto en orden de ID
+     * @return Cantidad de productos entregados
+     */
+    long exportar(Consumer<ProductoResponse> consumidor);
 
     /**
      * Obtiene un producto por su identificador único.
@@ -30,6 +65,25 @@ public interface ProductoService {
      */
     ProductoResponse obtenerPorId(Long id);
 
+    /**
+     * Obtiene varios productos por sus identificadores con una sola consulta IN (una por cada bloque
+     * de IDs, según el límite de parámetros del motor). Los IDs repetidos se ignoran.
+     * 
+     * @param ids Identificadores de los productos
+     * @return Productos encontrados en el orden solicitado e IDs inexistentes
+     * @throws com.universidad.crud.exception.BadRequestException si no se indica ningún ID o se excede el máximo
+     */
+    ProductosPorIdResponse<ProductoResponse> obtenerPorIds(List<Long> ids);
+
+    /**
+     * Obtiene varios productos por sus identificadores en su vista resumida (ID, nombre y precio).
+     * 
+     * @param ids Identificadores de los productos
+     * @return Productos resumidos encontrados en el orden solicitado e IDs inexistentes
+     * @throws com.universidad.crud.exception.BadRequestException si no se indica ningún ID o se excede el máximo
+     */
+    ProductosPorIdResponse<ProductoResumenResponse> obtenerResumenPorIds(List<Long> ids);
+
     /**
      * Crea un nuevo producto en el sistema.
      * 
@@ -42,14 +96,30 @@ public interface ProductoService {
      * Actualiza un producto existente.
      * 
      * @param id Identificador del producto a actualizar
+     * @param versionEsperada Versión sobre la que se hicieron los cambios (null para no verificarla)
      * @param request Nuevos datos del producto
      * @return Datos del producto actualizado
      * @throws com.universidad.crud.exception.ResourceNotFoundException si el producto no existe
+     * @throws com.universidad.crud.exception.ConflictException si la versión del producto ya cambió
      */
-    ProductoResponse actualizar(Long id, ProductoRequest request);
+    ProductoResponse actualizar(Long id, Long versionEsperada, ProductoRequest request);
+
+    /**
+     * Actualiza solo los campos enviados de un producto, siempre que conserve la versión esperada.
+     * 
+     * @param id Identificador del producto a actualizar
+     * @param versionEsperada Versión sobre la que se hicieron los cambios
+     * @param request Campos a modificar
+     * @return Nueva marca de versión del producto
+     * @throws com.universidad.crud.exception.BadRequestException si no se envía ningún campo
+     * @throws com.universidad.crud.exception.ResourceNotFoundException si el producto no existe
+     * @throws com.universidad.crud.exception.ConflictException si la versión del producto ya cambió
+     */
+    MarcaVersion actualizarParcial(Long id, Long versionEsperada, ProductoPatchRequest request);
 
     /**
      * Elimina un producto del sistema.
+     * La eliminación queda registrada para el flujo de cambios.
      * 
      * @param id Identificador del producto a eliminar
      * @throws com.universidad.crud.exception.ResourceNotFoundException si el producto no existe
@@ -57,11 +127,111 @@ public interface ProductoService {
     void eliminar(Long id);
 
     /**
-     * Busca productos por nombre.
+     * Busca productos por nombre, ordenados por relevancia.
+     * Se resuelve con el índice de nombres en memoria y, si aún no está disponible, en la base de datos.
      * 
      * @param nombre Texto a buscar en el nombre del producto
+     * @param limite Cantidad máxima de resultados, o null para usar el valor por defecto
      * @return Lista de productos que coinciden con el criterio
+     * @throws com.universidad.crud.exception.BadRequestException si el límite no es válido
      */
-    List<ProductoResponse> buscarPorNombre(String nombre);
-}
+    List<ProductoResponse> buscarPorNombre(String nombre, Integer limite);
+
+    /**
+     * Busca productos por nombre y los devuelve en su vista resumida (ID, nombre y precio).
+     * 
+     * @param nombre Texto a buscar en el nombre del producto
+     * @param limite Cantidad máxima de resultados, o null para usar el valor por defecto
+     * @return Lista de productos resumidos que coinciden con el criterio
+     * @throws com.universidad.crud.exception.BadRequestException si el límite no es válido
+     */
+    List<ProductoResumenResponse> buscarResumenPorNombre(String nombre, Integer limite);
+
+    /**
+     * Busca productos dentro de un rango de precios, ordenados por precio e ID,
+     * utilizando paginación por cursor.
+     * 
+     * @param precioMin Precio mínimo del rango (inclusive)
+     * @param precioMax Precio máximo del rango (inclusive)
+     * @param cursor Cursor opaco devuelto por la página anterior, o null para la primera página
+     * @param limite Cantidad máxima de productos a devolver, o null para usar el valor por defecto
+     * @return Página de productos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el rango, el cursor o el límite no son válidos
+     */
+    PaginaResponse<ProductoResponse> buscarPorRangoPrecio(BigDecimal precioMin, BigDecimal precioMax,
+                                                          String cursor, Integer limite);
+
+    /**
+     * Busca productos dentro de un rango de precios y los devuelve en su vista resumida.
+     * 
+     * @param precioMin Precio mínimo del rango (inclusive)
+     * @param precioMax Precio máximo del rango (inclusive)
+     * @param cursor Cursor opaco devuelto por la página anterior, o null para la primera página
+     * @param limite Cantidad máxima de productos a devolver, o null para usar el valor por defecto
+     * @return Página de productos resumidos con el cursor de la siguiente página
+     * @throws com.universidad.crud.exception.BadRequestException si el rango, el cursor o el límite no son válidos
+     */
+    PaginaResponse<ProductoResumenResponse> buscarResumenPorRangoPrecio(BigDecimal precioMin, BigDecimal precioMax,
+                                                                        String cursor, Integer limite);
+
+    /**
+     * Obtiene los productos creados, modificados o eliminados después de la posición indicada,
+     * ordenados por fecha e ID, para la sincronización incremental del catálogo.
+     * Solo se entregan cambios anteriores al margen de consistencia configurado, de modo que una
+     * transacción aún en curso no quede detrás del cursor ya entregado.
+     * 
+     * @param cursor Cursor devuelto por la consulta anterior, o null para la primera consulta
+     * @param desde Fecha a partir de la cual obtener cambios en la primera consulta (null para todos)
+     * @param limite Cantidad máxima de cambios a devolver, o null para usar el valor por defecto
+     * @return Cambios encontrados y cursor para la siguiente consulta
+     * @throws com.universidad.crud.exception.BadRequestException si el cursor o el límite no son válidos
+     */
+    CambiosResponse obtenerCambios(String cursor, LocalDateTime desde, Integer limite);
+
+    /**
+     * Crea varios productos en una sola transacción.
+     * Los elementos inválidos se reportan individualmente y no impiden la creación de los demás.
+     * 
+     * @param requests Datos de los productos a crear
+     * @return Resultado de cada elemento en el orden recibido
+     * @throws com.universidad.crud.exception.BadRequestException si el lote está vacío o excede el tamaño máximo
+     */
+    ResultadoLoteResponse crearLote(List<ProductoRequest> requests);
 
+    /**
+     * Actualiza varios productos en una sola transacción.
+     * Los elementos inválidos o inexistentes se reportan individualmente.
+     * 
+     * @param requests Identificadores y nuevos datos de los productos
+     * @return Resultado de cada elemento en el orden recibido
+     * @throws com.universidad.crud.exception.BadRequestException si el lote está vacío o excede el tamaño máximo
+     */
+    ResultadoLoteResponse actualizarLote(List<ProductoActualizacionRequest> requests);
+
+    /**
+     * Elimina varios productos en una sola transacción.
+     * Los identificadores inexistentes se reportan individualmente.
+     * 
+     * @param ids Identificadores de los productos a eliminar
+     * @return Resultado de cada elemento en el orden recibido
+     * @throws com.universidad.crud.exception.BadRequestException si el lote está vacío o excede el tamaño máximo
+     */
+    ResultadoLoteResponse eliminarLote(List<Long> ids);
+
+    /**
+     * Obtiene la marca de versión de un producto sin cargarlo completo.
+     * 
+     * @param id Identificador del producto
+     * @return Marca de versión del producto
+     * @throws com.universidad.crud.exception.ResourceNotFoundException si el producto no existe
+     */
+    MarcaVersion obtenerMarcaVersion(Long id);
+
+    /**
+     * Obtiene la marca de versión del catálogo completo, que cambia con cualquier
+     * alta, baja o modificación de productos.
+     * 
+     * @return Marca de versión del catálogo
+     */
+    MarcaVersion obtenerMarcaVersionCatalogo();
+}
@@ -1,17 +1,68 @@
 package com.universidad.crud.service;
 
+import com.universidad.crud.config.DataSourceReplicas;
+import com.universidad.crud.dto.CambioProducto;
+import com.universidad.crud.dto.CambiosResponse;
+import com.universidad.crud.dto.MarcaVersion;
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoActualizacionRequest;
+import com.universidad.crud.dto.ProductoPatchRequest;
 import com.universidad.crud.dto.ProductoRequest;
 import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductoResumenResponse;
+import com.universidad.crud.dto.ProductosPorIdResponse;
+import com.universidad.crud.dto.ResultadoLoteResponse;
+import com.universidad.crud.dto.ResultadoLoteResponse.Estado;
+import com.universidad.crud.dto.ResultadoLoteResponse.ResultadoItem;
+import com.universidad.crud.dto.VistaProducto;
+import com.universidad.crud.exception.BadRequestException;
+import com.universidad.crud.exception.ConflictException;
 import com.universidad.crud.exception.ResourceNotFoundException;
 import com.universidad.crud.model.Producto;
+import com.universidad.crud.model.ProductoEliminado;
+import com.universidad.crud.model.VersionCatalogo;
+import com.universidad.crud.repository.ProductoEliminadoRepository;
 import com.universidad.crud.repository.ProductoRepository;
+import com.universidad.crud.repository.VersionCatalogoRepository;
+import com.universidad.crud.repository.VersionProducto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementación de los servicios de negocio para la gestión de productos.
@@ -26,20 +77,61 @@ import java.util.stream.Collectors;
 @Transactional
 public class ProductoServiceImpl implements ProductoService {
 
+    /**
+     * Cantidad máxima de IDs por sentencia, por debajo del límite de 2100 parámetros de SQL Server.
+     */
+    private static final int TAMANIO_BLOQUE_IDS = 2000;
+
+    /**
+     * Posición inicial del flujo de cambios cuando no se indica cursor ni fecha.
+     */
+    private static final LocalDateTime INICIO_CAMBIOS = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Orden del flujo de cambios: fecha del cambio e ID del producto.
+     */
+    private static final Comparator<CambioProducto> ORDEN_CAMBIOS =
+            Comparator.comparing(CambioProducto::getFecha).thenComparing(CambioProducto::getId);
+
     private final ProductoRepository productoRepository;
+    private final ProductoEliminadoRepository productoEliminadoRepository;
+    private final VersionCatalogoRepository versionCatalogoRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final IndiceNombres indiceNombres;
+    private final LecturasCompartidas lecturasCompartidas;
+    private final CacheProductos cacheProductos;
+    private final EscriturasRecientes escriturasRecientes;
+    private final ApplicationEventPublisher eventos;
+
+    @Value("${productos.paginacion.limite-defecto:20}")
+    private int limiteDefecto;
+
+    @Value("${productos.paginacion.limite-maximo:100}")
+    private int limiteMaximo;
+
+    @Value("${productos.lote.tamanio-maximo:1000}")
+    private int tamanioMaximoLote;
+
+    @Value("${productos.cambios.margen-consistencia:2s}")
+    private Duration margenCambios;
 
     /**
      * {@inheritDoc}
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ProductoResponse> obtenerTodos() {
-        log.info("Obteniendo lista de todos los productos");
-        List<Producto> productos = productoRepository.findAll();
-        log.info("Se encontraron {} productos", productos.size());
-        return productos.stream()
-                .map(ProductoResponse::fromEntity)
-                .collect(Collectors.toList());
+    public PaginaResponse<ProductoResponse> obtenerPagina(String cursor, Integer limite) {
+        return paginaPorId(cursor, limite, productoRepository::findPaginaCompleta, ProductoResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponse<ProductoResumenResponse> obtenerPaginaResumen(String cursor, Integer limite) {
+        return paginaPorId(cursor, limite, productoRepository::findPaginaResumen, ProductoResumenResponse::getId);
     }
 
     /**
@@ -47,7 +139,54 @@ public class ProductoServiceImpl implements ProductoService {
      */
     @Override
     @Transactional(readOnly = true)
+    public long exportar(Consumer<ProductoResponse> consumidor) {
+        log.info("Exportando catálogo completo de productos");
+        long total = 0;
+        try (Stream<Producto> productos = productoRepository.streamTodos()) {
+            Iterator<Producto> iterador = productos.iterator();
+            while (iterador.hasNext()) {
+                Producto producto = iterador.next();
+                consumidor.accept(ProductoResponse.fromEntity(producto));
+                // Se desvincula la entidad para que el contexto de persistencia no crezca con el recorrido
+                entityManager.detach(producto);
+                total++;
+            }
+        }
+        log.info("Exportación finalizada: {} productos", total);
+        return total;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public ProductoResponse obtenerPorId(Long id) {
+        // Sin transacción propia: la abre el repositorio solo en la carga, así las peticiones
+        // que esperan la carga en curso de otra no retienen una conexión del pool
+        return cacheProductos.obtener(id,
+                () -> lecturasCompartidas.obtenerPorId(id, () -> leerActualizado(id, () -> cargarPorId(id))));
+    }
+
+    /**
+     * Ejecuta una lectura por ID en la primaria si el producto se modificó hace menos que el retraso
+     * tolerado de las réplicas de lectura (perfil replicas), y en cualquier base en caso contrario.
+     * 
+     * @param id Identificador del producto
+     * @param lectura Lectura a ejecutar
+     * @return Resultado de la lectura
+     */
+    private <T> T leerActualizado(Long id, Supplier<T> lectura) {
+        return escriturasRecientes.contiene(id) ? DataSourceReplicas.enPrimaria(lectura) : lectura.get();
+    }
+
+    /**
+     * Consulta un producto por su ID en la base de datos.
+     * 
+     * @param id Identificador del producto
+     * @return Producto encontrado
+     */
+    private ProductoResponse cargarPorId(Long id) {
         log.info("Buscando producto con ID: {}", id);
         Producto producto = productoRepository.findById(id)
                 .orElseThrow(() -> {
@@ -58,6 +197,24 @@ public class ProductoServiceImpl implements ProductoService {
         return ProductoResponse.fromEntity(producto);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductosPorIdResponse<ProductoResponse> obtenerPorIds(List<Long> ids) {
+        return consultarPorIds(ids, productoRepository::findCompletosPorIds, ProductoResponse::getId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductosPorIdResponse<ProductoResumenResponse> obtenerResumenPorIds(List<Long> ids) {
+        return consultarPorIds(ids, productoRepository::findResumenesPorIds, ProductoResumenResponse::getId);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -72,16 +229,20 @@ public class ProductoServiceImpl implements ProductoService {
                 .build();
         
         Producto productoGuardado = productoRepository.save(producto);
+        indiceNombres.indexar(productoGuardado.getId(), productoGuardado.getNombre());
         log.info("Producto creado exitosamente con ID: {}", productoGuardado.getId());
         
-        return ProductoResponse.fromEntity(productoGuardado);
+        ProductoResponse response = ProductoResponse.fromEntity(productoGuardado);
+        eventos.publishEvent(CambioProducto.creado(response));
+        registrarCambioCatalogo();
+        return response;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public ProductoResponse actualizar(Long id, ProductoRequest request) {
+    public ProductoResponse actualizar(Long id, Long versionEsperada, ProductoRequest request) {
         log.info("Actualizando producto con ID: {}", id);
         
         Producto productoExistente = productoRepository.findById(id)
@@ -90,14 +251,68 @@ public class ProductoServiceImpl implements ProductoService {
                     return new ResourceNotFoundException("Producto", "id", id);
                 });
         
+        if (versionEsperada != null && !versionEsperada.equals(productoExistente.getVersion())) {
+            throw conflictoVersion(id);
+        }
+        
         productoExistente.setNombre(request.getNombre());
         productoExistente.setDescripcion(request.getDescripcion());
         productoExistente.setPrecio(request.getPrecio());
         
-        Producto productoActualizado = productoRepository.save(productoExistente);
+        // El flush ejecuta el UPDATE condicionado a la versión y deja en la entidad la versión nueva
+        Producto productoActualizado = productoRepository.saveAndFlush(productoExistente);
+        indiceNombres.indexar(productoActualizado.getId(), productoActualizado.getNombre());
         log.info("Producto actualizado exitosamente: {}", productoActualizado.getNombre());
         
-        return ProductoResponse.fromEntity(productoActualizado);
+        ProductoResponse response = ProductoResponse.fromEntity(productoActualizado);
+        eventos.publishEvent(CambioProducto.modificado(response));
+        registrarCambioCatalogo();
+        return response;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MarcaVersion actualizarParcial(Long id, Long versionEsperada, ProductoPatchRequest request) {
+        log.info("Actualizando parcialmente producto con ID: {}", id);
+        
+        if (request.estaVacia()) {
+            throw new BadRequestException("Debe indicar al menos un campo a actualizar");
+        }
+        
+        // Se carga la entidad (de la caché de segundo nivel si está en ella) y se actualiza con el flush:
+        // así se invalida únicamente la entrada de este producto y no toda la región, como con un UPDATE masivo
+        Producto producto = productoRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Producto no encontrado para actualizar con ID: {}", id);
+                    return new ResourceNotFoundException("Producto", "id", id);
+                });
+        if (!versionEsperada.equals(producto.getVersion())) {
+            throw conflictoVersion(id);
+        }
+        
+        if (request.getNombre() != null) {
+            producto.setNombre(request.getNombre());
+        }
+        if (request.getDescripcion() != null) {
+            producto.setDescripcion(request.getDescripcion());
+        }
+        if (request.getPrecio() != null) {
+            producto.setPrecio(request.getPrecio());
+        }
+        
+        // El UPDATE va condicionado a la versión cargada: si otra petición la cambió, se responde 409
+        Producto productoActualizado = productoRepository.saveAndFlush(producto);
+        if (request.getNombre() != null) {
+            indiceNombres.indexar(id, productoActualizado.getNombre());
+        }
+        log.info("Producto actualizado parcialmente con ID: {}", id);
+        
+        ProductoResponse response = ProductoResponse.fromEntity(productoActualizado);
+        eventos.publishEvent(CambioProducto.modificado(response));
+        registrarCambioCatalogo();
+        return MarcaVersion.deProducto(response);
     }
 
     /**
@@ -107,27 +322,584 @@ public class ProductoServiceImpl implements ProductoService {
     public void eliminar(Long id) {
         log.info("Eliminando producto con ID: {}", id);
         
-        if (!productoRepository.existsById(id)) {
-            log.error("Producto no encontrado para eliminar con ID: {}", id);
-            throw new ResourceNotFoundException("Producto", "id", id);
-        }
+        // Eliminar la entidad cargada invalida solo su entrada en la caché de segundo nivel; un DELETE
+        // masivo vaciaría la región completa
+        Producto producto = productoRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.error("Producto no encontrado para eliminar con ID: {}", id);
+                    return new ResourceNotFoundException("Producto", "id", id);
+                });
+        productoRepository.delete(producto);
         
-        productoRepository.deleteById(id);
+        LocalDateTime fechaEliminacion = Producto.fechaActual();
+        entityManager.persist(ProductoEliminado.builder().id(id).fechaEliminacion(fechaEliminacion).build());
+        indiceNombres.eliminar(Collections.singletonList(id));
+        eventos.publishEvent(CambioProducto.eliminado(id, fechaEliminacion));
+        registrarCambioCatalogo();
         log.info("Producto eliminado exitosamente con ID: {}", id);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ProductoResponse> buscarPorNombre(String nombre, Integer limite) {
+        int tamanio = normalizarLimite(limite);
+        return lecturasCompartidas.buscarPorNombre(VistaProducto.COMPLETA, nombre, tamanio,
+                () -> buscarPorNombre(nombre, tamanio, productoRepository::findCompletosPorIds,
+                        productoRepository::findCompletosPorNombre, ProductoResponse::getId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ProductoResumenResponse> buscarResumenPorNombre(String nombre, Integer limite) {
+        int tamanio = normalizarLimite(limite);
+        return lecturasCompartidas.buscarPorNombre(VistaProducto.RESUMEN, nombre, tamanio,
+                () -> buscarPorNombre(nombre, tamanio, productoRepository::findResumenesPorIds,
+                        productoRepository::findResumenesPorNombre, ProductoResumenResponse::getId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponse<ProductoResponse> buscarPorRangoPrecio(BigDecimal precioMin, BigDecimal precioMax,
+                                                                 String cursor, Integer limite) {
+        PosicionPrecio posicion = posicionPrecio(precioMin, precioMax, cursor);
+        return consultarPagina(normalizarLimite(limite),
+                pagina -> productoRepository.findPaginaPorPrecioCompleta(
+                        precioMin, precioMax, posicion.precio, posicion.id, pagina),
+                ultimo -> Cursor.codificar(ultimo.getPrecio().toPlainString(), ultimo.getId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaResponse<ProductoResumenResponse> buscarResumenPorRangoPrecio(BigDecimal precioMin,
+                                                                               BigDecimal precioMax,
+                                                                               String cursor, Integer limite) {
+        PosicionPrecio posicion = posicionPrecio(precioMin, precioMax, cursor);
+        return consultarPagina(normalizarLimite(limite),
+                pagina -> productoRepository.findPaginaPorPrecioResumen(
+                        precioMin, precioMax, posicion.precio, posicion.id, pagina),
+                ultimo -> Cursor.codificar(ultimo.getPrecio().toPlainString(), ultimo.getId()));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ProductoResponse> buscarPorNombre(String nombre) {
+    public CambiosResponse obtenerCambios(String cursor, LocalDateTime desde, Integer limite) {
+        int tamanio = normalizarLimite(limite);
+        PosicionCambio posicion = posicionCambio(cursor, desde);
+        LocalDateTime hasta = LocalDateTime.now().minus(margenCambios);
+        log.info("Obteniendo cambios posteriores a {} (ID {}) con límite {}", posicion.fecha, posicion.id, tamanio);
+
+        // Cada tabla aporta hasta tamanio + 1 cambios; la mezcla ordenada define la página
+        Pageable pagina = PageRequest.of(0, tamanio + 1);
+        List<CambioProducto> cambios = new ArrayList<>(2 * (tamanio + 1));
+        for (ProductoResponse producto : productoRepository.findCambiosDesde(
+                posicion.fecha, posicion.id, hasta, pagina)) {
+            cambios.add(CambioProducto.modificado(producto));
+        }
+        for (ProductoEliminado eliminado : productoEliminadoRepository.findEliminadosDesde(
+                posicion.fecha, posicion.id, hasta, pagina)) {
+            cambios.add(CambioProducto.eliminado(eliminado.getId(), eliminado.getFechaEliminacion()));
+        }
+        cambios.sort(ORDEN_CAMBIOS);
+
+        boolean hayMas = cambios.size() > tamanio;
+        List<CambioProducto> contenido = hayMas ? new ArrayList<>(cambios.subList(0, tamanio)) : cambios;
+        CambioProducto ultimo = contenido.isEmpty() ? null : contenido.get(contenido.size() - 1);
+        return CambiosResponse.builder()
+                .cambios(contenido)
+                .cursor(ultimo != null
+                        ? Cursor.codificar(ultimo.getFecha(), ultimo.getId())
+                        : Cursor.codificar(posicion.fecha, posicion.id))
+                .hayMas(hayMas)
+                .limite(tamanio)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResultadoLoteResponse crearLote(List<ProductoRequest> requests) {
+        validarTamanioLote(requests);
+        log.info("Creando lote de {} productos", requests.size());
+
+        List<ResultadoItem> resultados = new ArrayList<>(requests.size());
+        List<Producto> nuevos = new ArrayList<>(requests.size());
+        List<ResultadoItem> creados = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ProductoRequest request = requests.get(i);
+            List<String> errores = validar(request);
+            if (!errores.isEmpty()) {
+                resultados.add(itemInvalido(i, null, errores));
+                continue;
+            }
+            nuevos.add(Producto.builder()
+                    .nombre(request.getNombre())
+                    .descripcion(request.getDescripcion())
+                    .precio(request.getPrecio())
+                    .build());
+            ResultadoItem item = ResultadoItem.builder().indice(i).estado(Estado.CREADO).build();
+            creados.add(item);
+            resultados.add(item);
+        }
+
+        // Los identificadores se asignan desde la secuencia al persistir; los INSERT se envían en lotes JDBC
+        List<Producto> guardados = productoRepository.saveAll(nuevos);
+        for (int i = 0; i < guardados.size(); i++) {
+            creados.get(i).setId(guardados.get(i).getId());
+            indiceNombres.indexar(guardados.get(i).getId(), guardados.get(i).getNombre());
+            eventos.publishEvent(CambioProducto.creado(ProductoResponse.fromEntity(guardados.get(i))));
+        }
+        if (!guardados.isEmpty()) {
+            registrarCambioCatalogo();
+        }
+
+        ResultadoLoteResponse resultado = ResultadoLoteResponse.de(resultados);
+        log.info("Lote de creación procesado: {} creados, {} rechazados", resultado.getExitosos(), resultado.getFallidos());
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResultadoLoteResponse actualizarLote(List<ProductoActualizacionRequest> requests) {
+        validarTamanioLote(requests);
+        log.info("Actualizando lote de {} productos", requests.size());
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ProductoActualizacionRequest request : requests) {
+            if (request != null && request.getId() != null) {
+                ids.add(request.getId());
+            }
+        }
+        // Una sola consulta para cargar todos los productos del lote
+        Map<Long, Producto> existentes = productoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Producto::getId, Function.identity()));
+
+        List<ResultadoItem> resultados = new ArrayList<>(requests.size());
+        Map<Long, Producto> actualizados = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ProductoActualizacionRequest request = requests.get(i);
+            List<String> errores = validar(request);
+            if (!errores.isEmpty()) {
+                resultados.add(itemInvalido(i, request != null ? request.getId() : null, errores));
+                continue;
+            }
+            Producto producto = existentes.get(request.getId());
+            if (producto == null) {
+                resultados.add(ResultadoItem.builder()
+                        .indice(i).id(request.getId()).estado(Estado.NO_ENCONTRADO).build());
+                continue;
+            }
+            producto.setNombre(request.getDatos().getNombre());
+            producto.setDescripcion(request.getDatos().getDescripcion());
+            producto.setPrecio(request.getDatos().getPrecio());
+            indiceNombres.indexar(producto.getId(), producto.getNombre());
+            actualizados.put(producto.getId(), producto);
+            resultados.add(ResultadoItem.builder()
+                    .indice(i).id(producto.getId()).estado(Estado.ACTUALIZADO).build());
+        }
+
+        // Los UPDATE se envían en lotes JDBC; el flush deja en las entidades la versión y fecha nuevas
+        if (!actualizados.isEmpty()) {
+            productoRepository.flush();
+            actualizados.values().forEach(producto ->
+                    eventos.publishEvent(CambioProducto.modificado(ProductoResponse.fromEntity(producto))));
+            registrarCambioCatalogo();
+        }
+        ResultadoLoteResponse resultado = ResultadoLoteResponse.de(resultados);
+        log.info("Lote de actualización procesado: {} actualizados, {} rechazados", resultado.getExitosos(), resultado.getFallidos());
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResultadoLoteResponse eliminarLote(List<Long> ids) {
+        validarTamanioLote(ids);
+        log.info("Eliminando lote de {} productos", ids.size());
+
+        Set<Long> solicitados = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                solicitados.add(id);
+            }
+        }
+        // Se eliminan las entidades cargadas (los DELETE se envían en lotes JDBC) para invalidar solo
+        // sus entradas en la caché de segundo nivel
+        List<Producto> productos = solicitados.isEmpty()
+                ? Collections.emptyList()
+                : productoRepository.findAllById(solicitados);
+        Set<Long> existentes = productos.stream()
+                .map(Producto::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!existentes.isEmpty()) {
+            productoRepository.deleteAll(productos);
+            LocalDateTime fechaEliminacion = Producto.fechaActual();
+            for (Long id : existentes) {
+                entityManager.persist(ProductoEliminado.builder().id(id).fechaEliminacion(fechaEliminacion).build());
+                eventos.publishEvent(CambioProducto.eliminado(id, fechaEliminacion));
+            }
+            indiceNombres.eliminar(existentes);
+            registrarCambioCatalogo();
+        }
+
+        List<ResultadoItem> resultados = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                resultados.add(itemInvalido(i, null, Collections.singletonList("El ID del producto es obligatorio")));
+            } else {
+                resultados.add(ResultadoItem.builder()
+                        .indice(i).id(id)
+                        .estado(existentes.contains(id) ? Estado.ELIMINADO : Estado.NO_ENCONTRADO)
+                        .build());
+            }
+        }
+
+        ResultadoLoteResponse resultado = ResultadoLoteResponse.de(resultados);
+        log.info("Lote de eliminación procesado: {} eliminados, {} rechazados", resultado.getExitosos(), resultado.getFallidos());
+        return resultado;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MarcaVersion obtenerMarcaVersion(Long id) {
+        // El producto en caché está vigente: cada cambio confirmado lo elimina
+        ProductoResponse enCache = cacheProductos.buscar(id);
+        if (enCache != null) {
+            return MarcaVersion.deProducto(enCache);
+        }
+        return lecturasCompartidas.obtenerMarcaVersion(id, () -> leerActualizado(id, () -> cargarMarcaVersion(id)));
+    }
+
+    /**
+     * Consulta la marca de versión de un producto en la base de datos.
+     * 
+     * @param id Identificador del producto
+     * @return Marca de versión del producto
+     */
+    private MarcaVersion cargarMarcaVersion(Long id) {
+        VersionProducto version = productoRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.error("Producto no encontrado con ID: {}", id);
+                    return new ResourceNotFoundException("Producto", "id", id);
+                });
+        return MarcaVersion.deProducto(version.getId(), version.getVersion(), version.getFechaActualizacion());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MarcaVersion obtenerMarcaVersionCatalogo() {
+        // Lectura de una fila por clave primaria: todas las instancias ven el mismo valor en cada petición
+        VersionCatalogo version = versionCatalogoRepository.findById(VersionCatalogo.ID)
+                .orElseThrow(() -> new IllegalStateException("No existe la fila de version_catalogo"));
+        return MarcaVersion.builder()
+                .valor(version.getVersion() + "-" + milisegundos(version.getFechaActualizacion()))
+                .ultimaModificacion(version.getFechaActualizacion())
+                .build();
+    }
+
+    /**
+     * Incrementa la versión del catálogo en la transacción de escritura actual, de modo que el cambio
+     * y la nueva versión se confirman juntos. Se invoca al final de cada escritura porque el UPDATE
+     * bloquea la fila hasta la confirmación.
+     */
+    private void registrarCambioCatalogo() {
+        versionCatalogoRepository.incrementar(Producto.fechaActual());
+    }
+
+    /**
+     * Crea la excepción para una modificación hecha sobre una versión desactualizada del producto.
+     */
+    private static ConflictException conflictoVersion(Long id) {
+        log.warn("Conflicto de versión al actualizar el producto con ID: {}", id);
+        return new ConflictException(
+                "El producto con id '" + id + "' fue modificado por otra petición; obtenga la versión actual e intente de nuevo");
+    }
+
+    /**
+     * Convierte una fecha a milisegundos desde la época, o 0 si es null.
+     */
+    private static long milisegundos(LocalDateTime fecha) {
+        return fecha != null ? fecha.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    /**
+     * Obtiene una página ordenada por ID a partir del cursor recibido.
+     * 
+     * @param cursor Cursor de la página anterior (puede ser null)
+     * @param limite Límite solicitado por el cliente (puede ser null)
+     * @param consulta Consulta por keyset que recibe el último ID y el límite
+     * @param id Función que obtiene el ID de un elemento
+     * @return Página de resultados
+     */
+    private <T> PaginaResponse<T> paginaPorId(String cursor, Integer limite,
+                                              BiFunction<Long, Pageable, List<T>> consulta,
+                                              Function<T, Long> id) {
+        int tamanio = normalizarLimite(limite);
+        Long ultimoId = StringUtils.hasText(cursor) ? Cursor.decodificarId(cursor) : 0L;
+        log.info("Obteniendo página de productos después del ID {} con límite {}", ultimoId, tamanio);
+        return consultarPagina(tamanio,
+                pagina -> consulta.apply(ultimoId, pagina),
+                ultimo -> Cursor.codificar(id.apply(ultimo)));
+    }
+
+    /**
+     * Ejecuta una consulta por keyset solicitando un elemento adicional para saber si existe
+     * una página siguiente, y construye la respuesta con el cursor correspondiente.
+     * 
+     * @param tamanio Tamaño efectivo de la página
+     * @param consulta Consulta que recibe el límite de filas a obtener
+     * @param cursorDe Función que construye el cursor a partir del último elemento de la página
+     * @return Página de resultados
+     */
+    private <T> PaginaResponse<T> consultarPagina(int tamanio, Function<Pageable, List<T>> consulta,
+                                                  Function<T, String> cursorDe) {
+        List<T> filas = consulta.apply(PageRequest.of(0, tamanio + 1));
+        boolean haySiguiente = filas.size() > tamanio;
+        List<T> contenido = haySiguiente ? filas.subList(0, tamanio) : filas;
+        return PaginaResponse.<T>builder()
+                .contenido(contenido)
+                .siguienteCursor(haySiguiente ? cursorDe.apply(contenido.get(contenido.size() - 1)) : null)
+                .limite(tamanio)
+                .build();
+    }
+
+    /**
+     * Obtiene los elementos con los IDs indicados, sin repetidos y en el orden solicitado, con una
+     * consulta IN por cada bloque de IDs.
+     * 
+     * @param ids IDs solicitados por el cliente
+     * @param consulta Consulta que obtiene los elementos de un bloque de IDs
+     * @param id Función que obtiene el ID de un elemento
+     * @return Elementos encontrados e IDs inexistentes
+     */
+    private <T> ProductosPorIdResponse<T> consultarPorIds(List<Long> ids,
+                                                          Function<Collection<Long>, List<T>> consulta,
+                                                          Function<T, Long> id) {
+        List<Long> solicitados = ids == null ? new ArrayList<>() : new ArrayList<>(new LinkedHashSet<>(ids));
+        solicitados.removeIf(Objects::isNull);
+        if (solicitados.isEmpty()) {
+            throw new BadRequestException("Debe indicar al menos un ID de producto");
+        }
+        if (solicitados.size() > tamanioMaximoLote) {
+            throw new BadRequestException(String.format(
+                    "No se pueden consultar más de %d productos por petición", tamanioMaximoLote));
+        }
+        log.info("Obteniendo {} productos por ID", solicitados.size());
+
+        Map<Long, T> encontrados = new HashMap<>(solicitados.size() * 2);
+        for (int desde = 0; desde < solicitados.size(); desde += TAMANIO_BLOQUE_IDS) {
+            List<Long> bloque = solicitados.subList(desde, Math.min(desde + TAMANIO_BLOQUE_IDS, solicitados.size()));
+            for (T elemento : consulta.apply(bloque)) {
+                encontrados.put(id.apply(elemento), elemento);
+            }
+        }
+
+        List<T> productos = new ArrayList<>(encontrados.size());
+        List<Long> noEncontrados = new ArrayList<>();
+        for (Long solicitado : solicitados) {
+            T elemento = encontrados.get(solicitado);
+            if (elemento != null) {
+                productos.add(elemento);
+            } else {
+                noEncontrados.add(solicitado);
+            }
+        }
+        log.info("Productos por ID: {} encontrados, {} inexistentes", productos.size(), noEncontrados.size());
+        return ProductosPorIdResponse.<T>builder()
+                .productos(productos)
+                .noEncontrados(noEncontrados)
+                .build();
+    }
+
+    /**
+     * Busca por nombre con el índice en memoria o, si no está disponible, en la base de datos.
+     * 
+     * @param nombre Texto a buscar
+     * @param tamanio Límite ya normalizado
+     * @param porIds Consulta que obtiene los elementos a partir de sus IDs
+     * @param porNombre Consulta LIKE de respaldo, que recibe el patrón con los comodines escapados
+     * @param id Función que obtiene el ID de un elemento
+     * @return Elementos encontrados en orden de relevancia
+     */
+    private <T> List<T> buscarPorNombre(String nombre, int tamanio,
+                                        Function<Collection<Long>, List<T>> porIds,
+                                        BiFunction<String, Pageable, List<T>> porNombre,
+                                        Function<T, Long> id) {
         log.info("Buscando productos por nombre: {}", nombre);
-        List<Producto> productos = productoRepository.findByNombreContainingIgnoreCase(nombre);
-        log.info("Se encontraron {} productos con el nombre: {}", productos.size(), nombre);
-        return productos.stream()
-                .map(ProductoResponse::fromEntity)
+
+        List<T> resultado;
+        if (indiceNombres.estaListo()) {
+            List<Long> ids = indiceNombres.buscar(nombre, tamanio);
+            // Una sola consulta por clave primaria, conservando el orden de relevancia del índice
+            Map<Long, T> encontrados = ids.isEmpty()
+                    ? Collections.emptyMap()
+                    : porIds.apply(ids).stream().collect(Collectors.toMap(id, Function.identity()));
+            resultado = ids.stream()
+                    .map(encontrados::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        } else {
+            log.debug("Índice de nombres no disponible; buscando en la base de datos");
+            resultado = porNombre.apply(PatronLike.contiene(nombre),
+                    PageRequest.of(0, tamanio, Sort.by("nombre", "id")));
+        }
+
+        log.info("Se encontraron {} productos con el nombre: {}", resultado.size(), nombre);
+        return resultado;
+    }
+
+    /**
+     * Valida el rango de precios y obtiene la posición de inicio a partir del cursor recibido.
+     * 
+     * @param precioMin Precio mínimo del rango
+     * @param precioMax Precio máximo del rango
+     * @param cursor Cursor de la página anterior (puede ser null)
+     * @return Precio e ID a partir de los cuales se obtiene la página
+     */
+    private PosicionPrecio posicionPrecio(BigDecimal precioMin, BigDecimal precioMax, String cursor) {
+        if (precioMin.compareTo(precioMax) > 0) {
+            throw new BadRequestException("El precio mínimo no puede ser mayor al precio máximo");
+        }
+        if (!StringUtils.hasText(cursor)) {
+            return new PosicionPrecio(precioMin, 0L);
+        }
+        String[] valores = Cursor.decodificar(cursor, 2);
+        try {
+            return new PosicionPrecio(new BigDecimal(valores[0]), Long.valueOf(valores[1]));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("El cursor de paginación no es válido");
+        }
+    }
+
+    /**
+     * Obtiene la posición de inicio del flujo de cambios a partir del cursor recibido o,
+     * en la primera consulta, de la fecha indicada.
+     * 
+     * @param cursor Cursor de la consulta anterior (puede ser null)
+     * @param desde Fecha de inicio de la primera consulta (puede ser null)
+     * @return Fecha e ID a partir de los cuales se obtienen los cambios
+     */
+    private PosicionCambio posicionCambio(String cursor, LocalDateTime desde) {
+        if (!StringUtils.hasText(cursor)) {
+            return new PosicionCambio(desde != null ? desde : INICIO_CAMBIOS, 0L);
+        }
+        String[] valores = Cursor.decodificar(cursor, 2);
+        try {
+            return new PosicionCambio(LocalDateTime.parse(valores[0]), Long.valueOf(valores[1]));
+        } catch (DateTimeParseException | NumberFormatException ex) {
+            throw new BadRequestException("El cursor de paginación no es válido");
+        }
+    }
+
+    /**
+     * Verifica que el lote no esté vacío y no exceda el tamaño máximo configurado.
+     * 
+     * @param lote Elementos recibidos
+     * @throws BadRequestException si el lote está vacío o es demasiado grande
+     */
+    private void validarTamanioLote(List<?> lote) {
+        if (lote == null || lote.isEmpty()) {
+            throw new BadRequestException("El lote debe contener al menos un elemento");
+        }
+        if (lote.size() > tamanioMaximoLote) {
+            throw new BadRequestException(String.format(
+                    "El lote no puede contener más de %d elementos", tamanioMaximoLote));
+        }
+    }
+
+    /**
+     * Valida un elemento del lote con las mismas restricciones que las operaciones individuales.
+     * 
+     * @param request Elemento a validar
+     * @return Mensajes de error (vacío si el elemento es válido)
+     */
+    private List<String> validar(Object request) {
+        if (request == null) {
+            return Collections.singletonList("El elemento del lote no puede ser nulo");
+        }
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
                 .collect(Collectors.toList());
     }
-}
 
+    /**
+     * Construye el resultado de un elemento rechazado por validación.
+     */
+    private ResultadoItem itemInvalido(int indice, Long id, List<String> errores) {
+        return ResultadoItem.builder()
+                .indice(indice)
+                .id(id)
+                .estado(Estado.INVALIDO)
+                .errores(errores)
+                .build();
+    }
+
+    /**
+     * Aplica el límite por defecto y el máximo configurados al tamaño de página solicitado.
+     * 
+     * @param limite Límite solicitado por el cliente (puede ser null)
+     * @return Límite efectivo a utilizar
+     * @throws BadRequestException si el límite es menor a 1
+     */
+    private int normalizarLimite(Integer limite) {
+        if (limite == null) {
+            return limiteDefecto;
+        }
+        if (limite < 1) {
+            throw new BadRequestException("El límite debe ser mayor o igual a 1");
+        }
+        return Math.min(limite, limiteMaximo);
+    }
+
+    /**
+     * Posición (precio, id) de la paginación por rango de precio.
+     */
+    private static final class PosicionPrecio {
+        private final BigDecimal precio;
+        private final Long id;
+
+        private PosicionPrecio(BigDecimal precio, Long id) {
+            this.precio = precio;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Posición (fecha, id) del flujo de cambios.
+     */
+    private static final class PosicionCambio {
+        private final LocalDateTime fecha;
+        private final Long id;
+
+        private PosicionCambio(LocalDateTime fecha, Long id) {
+            this.fecha = fecha;
+            this.id = id;
+        }
+    }
+}
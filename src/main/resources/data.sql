@@ -1,20 +0,0 @@
--- ============================================
--- DATOS INICIALES PARA PRUEBAS
--- Se ejecuta automaticamente al iniciar la aplicacion
--- ============================================
-
-INSERT INTO productos (nombre, descripcion, precio, fecha_creacion, fecha_actualizacion) VALUES 
-('Laptop HP Pavilion', 'Laptop HP Pavilion con procesador Intel Core i5, 8GB RAM, 256GB SSD, pantalla 15.6 pulgadas Full HD', 2499000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO productos (nombre, descripcion, precio, fecha_creacion, fecha_actualizacion) VALUES 
-('Mouse Logitech MX Master', 'Mouse inalambrico ergonomico Logitech MX Master 3 con sensor de alta precision y bateria recargable', 350000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO productos (nombre, descripcion, precio, fecha_creacion, fecha_actualizacion) VALUES 
-('Teclado Mecanico Redragon', 'Teclado mecanico gaming Redragon K552 con switches azules, retroiluminacion RGB y diseno compacto', 180000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO productos (nombre, descripcion, precio, fecha_creacion, fecha_actualizacion) VALUES 
-('Monitor Samsung 27 pulgadas', 'Monitor Samsung curvo de 27 pulgadas, resolucion QHD, 144Hz, tiempo de respuesta 1ms, ideal para gaming', 1200000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
-INSERT INTO productos (nombre, descripcion, precio, fecha_creacion, fecha_actualizacion) VALUES 
-('Auriculares Sony WH-1000XM4', 'Auriculares inalambricos Sony con cancelacion de ruido activa, 30 horas de bateria y sonido premium', 890000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
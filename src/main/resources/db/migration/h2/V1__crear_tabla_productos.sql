@@ -0,0 +1,17 @@
+-- ============================================
+-- V1 - TABLA DE PRODUCTOS (H2)
+-- Secuencia con incremento igual al allocationSize de la entidad (optimizador pooled)
+-- ============================================
+
+CREATE SEQUENCE productos_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE productos (
+    id                  BIGINT        NOT NULL,
+    nombre              VARCHAR(100)  NOT NULL,
+    descripcion         VARCHAR(500)  NOT NULL,
+    precio              NUMERIC(12,2) NOT NULL,
+    fecha_creacion      TIMESTAMP,
+    fecha_actualizacion TIMESTAMP,
+    version             BIGINT        NOT NULL,
+    CONSTRAINT pk_productos PRIMARY KEY (id)
+);
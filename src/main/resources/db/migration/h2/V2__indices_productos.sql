@@ -0,0 +1,14 @@
+-- ============================================
+-- V2 - ÍNDICES DE PRODUCTOS (H2)
+-- ============================================
+
+-- Búsqueda por nombre sin distinguir mayúsculas (LOWER(nombre)) y ordenada por nombre e ID.
+-- H2 no admite índices sobre expresiones: se indexa una columna generada.
+ALTER TABLE productos ADD COLUMN nombre_minusculas VARCHAR(100) GENERATED ALWAYS AS (LOWER(nombre));
+CREATE INDEX idx_productos_nombre_minusculas ON productos (nombre_minusculas, id);
+
+-- Rango de precios paginado por cursor (ORDER BY precio, id)
+CREATE INDEX idx_productos_precio_id ON productos (precio, id);
+
+-- Consultas por fecha de modificación (MAX(fecha_actualizacion), cambios recientes)
+CREATE INDEX idx_productos_fecha_actualizacion_id ON productos (fecha_actualizacion, id);
@@ -0,0 +1,13 @@
+-- ============================================
+-- V3 - PRODUCTOS ELIMINADOS (H2)
+-- Registro de eliminaciones para el flujo de cambios (/api/v1/productos/cambios)
+-- ============================================
+
+CREATE TABLE productos_eliminados (
+    producto_id       BIGINT    NOT NULL,
+    fecha_eliminacion TIMESTAMP NOT NULL,
+    CONSTRAINT pk_productos_eliminados PRIMARY KEY (producto_id)
+);
+
+-- Paginación del flujo de cambios por (fecha_eliminacion, producto_id)
+CREATE INDEX idx_productos_eliminados_fecha_id ON productos_eliminados (fecha_eliminacion, producto_id);
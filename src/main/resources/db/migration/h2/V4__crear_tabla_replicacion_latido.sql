@@ -0,0 +1,13 @@
+-- ============================================
+-- V4 - LATIDO DE REPLICACIÓN (H2)
+-- La aplicación escribe la hora actual en la primaria y la lee en cada réplica
+-- para medir su retraso (perfil replicas)
+-- ============================================
+
+CREATE TABLE replicacion_latido (
+    id    INT    NOT NULL,
+    marca BIGINT NOT NULL,
+    CONSTRAINT pk_replicacion_latido PRIMARY KEY (id)
+);
+
+INSERT INTO replicacion_latido (id, marca) VALUES (1, 0);
@@ -0,0 +1,18 @@
+-- ============================================
+-- V7 - VERSIÓN DEL CATÁLOGO (H2)
+-- Fila única que cada transacción de escritura de productos incrementa; de ella se obtienen el ETag
+-- y el Last-Modified de los listados sin recorrer la tabla de productos
+-- ============================================
+
+CREATE TABLE version_catalogo (
+    id                  INT       NOT NULL,
+    version             BIGINT    NOT NULL,
+    fecha_actualizacion TIMESTAMP,
+    CONSTRAINT pk_version_catalogo PRIMARY KEY (id)
+);
+
+-- La fecha inicial es la del último cambio registrado (modificación o eliminación)
+INSERT INTO version_catalogo (id, version, fecha_actualizacion)
+SELECT 1, 0, CASE WHEN e.fecha IS NULL OR p.fecha >= e.fecha THEN p.fecha ELSE e.fecha END
+FROM (SELECT MAX(fecha_actualizacion) AS fecha FROM productos) p
+CROSS JOIN (SELECT MAX(fecha_eliminacion) AS fecha FROM productos_eliminados) e;
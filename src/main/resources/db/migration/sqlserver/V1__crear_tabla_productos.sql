@@ -0,0 +1,17 @@
+-- ============================================
+-- V1 - TABLA DE PRODUCTOS (SQL SERVER / AZURE SQL)
+-- Secuencia con incremento igual al allocationSize de la entidad (optimizador pooled)
+-- ============================================
+
+CREATE SEQUENCE productos_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE productos (
+    id                  BIGINT        NOT NULL,
+    nombre              VARCHAR(100)  NOT NULL,
+    descripcion         VARCHAR(500)  NOT NULL,
+    precio              NUMERIC(12,2) NOT NULL,
+    fecha_creacion      DATETIME2,
+    fecha_actualizacion DATETIME2,
+    version             BIGINT        NOT NULL,
+    CONSTRAINT pk_productos PRIMARY KEY (id)
+);
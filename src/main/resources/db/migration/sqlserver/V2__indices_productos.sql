@@ -0,0 +1,30 @@
+-- ============================================
+-- V2 - ÍNDICES DE PRODUCTOS (SQL SERVER / AZURE SQL)
+-- Las bases de datos creadas antes de Flyway (ddl-auto=update) se registran en la versión 1
+-- (spring.flyway.baseline-on-migrate), por lo que este script tolera objetos existentes.
+-- ============================================
+
+-- Con el dialecto anterior (SQLServerDialect) el generador de IDs era una tabla productos_seq;
+-- se reemplaza por una secuencia que continúa desde el siguiente valor registrado
+IF OBJECT_ID('productos_seq', 'U') IS NOT NULL
+BEGIN
+    DECLARE @siguiente BIGINT = (SELECT MAX(next_val) FROM productos_seq);
+    DROP TABLE productos_seq;
+    EXEC('CREATE SEQUENCE productos_seq AS BIGINT START WITH ' + CAST(@siguiente AS VARCHAR(20)) + ' INCREMENT BY 50');
+END;
+
+-- Búsqueda por nombre sin distinguir mayúsculas: columna calculada LOWER(nombre) indexada.
+-- El optimizador usa el índice para las expresiones LOWER(nombre) de las consultas.
+IF COL_LENGTH('productos', 'nombre_minusculas') IS NULL
+    ALTER TABLE productos ADD nombre_minusculas AS LOWER(nombre);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_productos_nombre_minusculas' AND object_id = OBJECT_ID('productos'))
+    CREATE INDEX idx_productos_nombre_minusculas ON productos (nombre_minusculas, id);
+
+-- Rango de precios paginado por cursor (ORDER BY precio, id)
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_productos_precio_id' AND object_id = OBJECT_ID('productos'))
+    CREATE INDEX idx_productos_precio_id ON productos (precio, id);
+
+-- Consultas por fecha de modificación (MAX(fecha_actualizacion), cambios recientes)
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_productos_fecha_actualizacion_id' AND object_id = OBJECT_ID('productos'))
+    CREATE INDEX idx_productos_fecha_actualizacion_id ON productos (fecha_actualizacion, id);
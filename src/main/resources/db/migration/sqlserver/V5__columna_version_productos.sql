@@ -0,0 +1,17 @@
+-- ============================================
+-- V5 - COLUMNA DE VERSIÓN DE PRODUCTOS (SQL SERVER / AZURE SQL)
+-- Las bases de datos registradas en la versión 1 (baseline-on-migrate) se crearon con el mapeo
+-- anterior al bloqueo optimista: no tienen la columna version, o la tienen como nula si la agregó
+-- ddl-auto=update. En las bases creadas por V1 este script no hace nada.
+-- ============================================
+
+IF COL_LENGTH('productos', 'version') IS NULL
+    ALTER TABLE productos ADD version BIGINT NOT NULL CONSTRAINT df_productos_version DEFAULT 0;
+
+-- Las sentencias que nombran la columna se ejecutan con EXEC para compilarlas cuando ya existe
+IF COLUMNPROPERTY(OBJECT_ID('productos'), 'version', 'AllowsNull') = 1
+BEGIN
+    EXEC('UPDATE productos SET version = 0 WHERE version IS NULL');
+    EXEC('ALTER TABLE productos ALTER COLUMN version BIGINT NOT NULL');
+    EXEC('ALTER TABLE productos ADD CONSTRAINT df_productos_version DEFAULT 0 FOR version');
+END;
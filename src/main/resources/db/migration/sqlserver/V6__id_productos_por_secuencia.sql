@@ -0,0 +1,58 @@
+-- ============================================
+-- V6 - IDs DE PRODUCTOS POR SECUENCIA (SQL SERVER / AZURE SQL)
+-- Las bases de datos registradas en la versión 1 (baseline-on-migrate) tienen productos.id como
+-- IDENTITY, que rechaza los IDs que la aplicación asigna desde productos_seq. SQL Server no permite
+-- quitar la propiedad IDENTITY: la tabla se reconstruye con la definición de V1 copiando los datos
+-- (las fechas datetime del dialecto anterior pasan a datetime2). En las bases creadas por V1 la
+-- reconstrucción no se ejecuta.
+-- ============================================
+
+IF COLUMNPROPERTY(OBJECT_ID('productos'), 'id', 'IsIdentity') = 1
+BEGIN
+    CREATE TABLE productos_reconstruida (
+        id                  BIGINT        NOT NULL,
+        nombre              VARCHAR(100)  NOT NULL,
+        descripcion         VARCHAR(500)  NOT NULL,
+        precio              NUMERIC(12,2) NOT NULL,
+        fecha_creacion      DATETIME2,
+        fecha_actualizacion DATETIME2,
+        version             BIGINT        NOT NULL CONSTRAINT df_productos_reconstruida_version DEFAULT 0,
+        nombre_minusculas   AS LOWER(nombre),
+        CONSTRAINT pk_productos_reconstruida PRIMARY KEY (id)
+    );
+    EXEC('INSERT INTO productos_reconstruida (id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version)
+          SELECT id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version FROM productos');
+    DROP TABLE productos;
+    EXEC sp_rename 'productos_reconstruida', 'productos';
+    EXEC sp_rename 'pk_productos_reconstruida', 'pk_productos', 'OBJECT';
+    EXEC sp_rename 'df_productos_reconstruida_version', 'df_productos_version', 'OBJECT';
+END;
+
+-- Índices de V2, eliminados junto con la tabla original
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_productos_nombre_minusculas' AND object_id = OBJECT_ID('productos'))
+    CREATE INDEX idx_productos_nombre_minusculas ON productos (nombre_minusculas, id);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_productos_precio_id' AND object_id = OBJECT_ID('productos'))
+    CREATE INDEX idx_productos_precio_id ON productos (precio, id);
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes WHERE name = 'idx_productos_fecha_actualizacion_id' AND object_id = OBJECT_ID('productos'))
+    CREATE INDEX idx_productos_fecha_actualizacion_id ON productos (fecha_actualizacion, id);
+
+-- Una base con IDENTITY y sin la tabla productos_seq anterior (V2) no tiene secuencia
+IF OBJECT_ID('productos_seq', 'SO') IS NULL
+    CREATE SEQUENCE productos_seq AS BIGINT START WITH 1 INCREMENT BY 50;
+
+-- El optimizador pooled usa cada valor de la secuencia como el último de un bloque de 50 IDs
+-- (del valor - 49 al valor): el siguiente valor debe dejar el bloque completo por encima del mayor
+-- ID existente, generado por IDENTITY o por la antigua tabla productos_seq
+IF EXISTS (SELECT 1 FROM productos)
+BEGIN
+    DECLARE @minimo BIGINT = (SELECT MAX(id) FROM productos) + 50;
+    DECLARE @siguiente BIGINT = (
+        SELECT CASE WHEN last_used_value IS NULL THEN CAST(start_value AS BIGINT)
+                    ELSE CAST(last_used_value AS BIGINT) + CAST(increment AS BIGINT) END
+        FROM sys.sequences
+        WHERE object_id = OBJECT_ID('productos_seq'));
+    IF @siguiente < @minimo
+        EXEC('ALTER SEQUENCE productos_seq RESTART WITH ' + CAST(@minimo AS VARCHAR(20)));
+END;
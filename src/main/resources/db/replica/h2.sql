@@ -0,0 +1,14 @@
+-- ============================================
+-- RÉPLICA DE LECTURA SIMULADA (H2, perfiles h2,replicas)
+-- Se ejecuta al abrir cada conexión a una réplica (INIT=RUNSCRIPT): crea tablas enlazadas de solo
+-- lectura a la base de datos en memoria principal, que debe existir y estar migrada.
+-- ============================================
+
+CREATE LINKED TABLE IF NOT EXISTS productos
+    ('org.h2.Driver', 'jdbc:h2:mem:productosdb', 'sa', '', 'PUBLIC', 'PRODUCTOS') READONLY;
+
+CREATE LINKED TABLE IF NOT EXISTS productos_eliminados
+    ('org.h2.Driver', 'jdbc:h2:mem:productosdb', 'sa', '', 'PUBLIC', 'PRODUCTOS_ELIMINADOS') READONLY;
+
+CREATE LINKED TABLE IF NOT EXISTS replicacion_latido
+    ('org.h2.Driver', 'jdbc:h2:mem:productosdb', 'sa', '', 'PUBLIC', 'REPLICACION_LATIDO') READONLY;
@@ -0,0 +1,28 @@
+-- ============================================
+-- DATOS INICIALES PARA DESARROLLO (solo perfil h2)
+-- Migración repetible: se vuelve a aplicar si cambia su contenido y solo
+-- inserta los productos que aún no existen (por nombre)
+-- ============================================
+
+INSERT INTO productos (id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version)
+SELECT NEXT VALUE FOR productos_seq, 'Laptop HP Pavilion', 'Laptop HP Pavilion con procesador Intel Core i5, 8GB RAM, 256GB SSD, pantalla 15.6 pulgadas Full HD', 2499000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+WHERE NOT EXISTS (SELECT 1 FROM productos WHERE nombre = 'Laptop HP Pavilion');
+
+INSERT INTO productos (id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version)
+SELECT NEXT VALUE FOR productos_seq, 'Mouse Logitech MX Master', 'Mouse inalambrico ergonomico Logitech MX Master 3 con sensor de alta precision y bateria recargable', 350000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+WHERE NOT EXISTS (SELECT 1 FROM productos WHERE nombre = 'Mouse Logitech MX Master');
+
+INSERT INTO productos (id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version)
+SELECT NEXT VALUE FOR productos_seq, 'Teclado Mecanico Redragon', 'Teclado mecanico gaming Redragon K552 con switches azules, retroiluminacion RGB y diseno compacto', 180000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+WHERE NOT EXISTS (SELECT 1 FROM productos WHERE nombre = 'Teclado Mecanico Redragon');
+
+INSERT INTO productos (id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version)
+SELECT NEXT VALUE FOR productos_seq, 'Monitor Samsung 27 pulgadas', 'Monitor Samsung curvo de 27 pulgadas, resolucion QHD, 144Hz, tiempo de respuesta 1ms, ideal para gaming', 1200000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+WHERE NOT EXISTS (SELECT 1 FROM productos WHERE nombre = 'Monitor Samsung 27 pulgadas');
+
+INSERT INTO productos (id, nombre, descripcion, precio, fecha_creacion, fecha_actualizacion, version)
+SELECT NEXT VALUE FOR productos_seq, 'Auriculares Sony WH-1000XM4', 'Auriculares inalambricos Sony con cancelacion de ruido activa, 30 horas de bateria y sonido premium', 890000.00, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0
+WHERE NOT EXISTS (SELECT 1 FROM productos WHERE nombre = 'Auriculares Sony WH-1000XM4');
+
+-- Los productos insertados aquí no pasan por la aplicación: se registra el cambio en la versión del catálogo
+UPDATE version_catalogo SET version = version + 1, fecha_actualizacion = CURRENT_TIMESTAMP WHERE id = 1;
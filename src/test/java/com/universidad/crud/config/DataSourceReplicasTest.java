@@ -0,0 +1,221 @@
+package com.universidad.crud.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas del enrutamiento de lecturas a las réplicas, con bases H2 en memoria.
+ * Cada réplica es una base independiente cuyo latido controla la prueba: una marca en el futuro
+ * equivale a una réplica al día y una marca antigua, a una réplica atrasada.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class DataSourceReplicasTest {
+
+    private static final long AL_DIA = Long.MAX_VALUE / 2;
+    private static final long ATRASADA = 0L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<AutoCloseable> recursos = new ArrayList<>();
+    private HikariDataSource primaria;
+
+    @AfterEach
+    void cerrar() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        for (AutoCloseable recurso : recursos) {
+            recurso.close();
+        }
+    }
+
+    @Test
+    void lasTransaccionesDeSoloLecturaVanALasReplicasAlDia() throws Exception {
+        DataSourceReplicas dataSource = crear(replica("r1", AL_DIA), replica("r2", AL_DIA));
+        esperarDisponible("r1", true);
+        esperarDisponible("r2", true);
+
+        leer(dataSource);
+        leer(dataSource);
+
+        // Selección por turnos entre las réplicas disponibles
+        assertThat(lecturas("r1")).isEqualTo(1.0);
+        assertThat(lecturas("r2")).isEqualTo(1.0);
+        assertThat(respaldos()).isZero();
+    }
+
+    @Test
+    void lasEscriturasVanALaPrimaria() throws Exception {
+        DataSourceReplicas dataSource = crear(replica("r1", AL_DIA));
+        esperarDisponible("r1", true);
+
+        try (Connection conexion = dataSource.getConnection()) {
+            assertThat(base(conexion.getMetaData().getURL())).isEqualTo(base(primaria.getJdbcUrl()));
+        }
+        assertThat(lecturas("r1")).isZero();
+    }
+
+    @Test
+    void unaReplicaAtrasadaNoRecibeLecturas() throws Exception {
+        DataSourceReplicas dataSource = crear(replica("r1", AL_DIA), replica("r2", ATRASADA));
+        esperarDisponible("r1", true);
+        esperarDisponible("r2", false);
+
+        for (int i = 0; i < 4; i++) {
+            leer(dataSource);
+        }
+
+        assertThat(lecturas("r1")).isEqualTo(4.0);
+        assertThat(lecturas("r2")).isZero();
+    }
+
+    @Test
+    void sinReplicasDisponiblesLasLecturasVanALaPrimaria() throws Exception {
+        DataSourceReplicas dataSource = crear(replica("r1", ATRASADA));
+        esperarDisponible("r1", false);
+
+        assertThat(leer(dataSource)).isEqualTo(base(primaria.getJdbcUrl()));
+        assertThat(respaldos()).isEqualTo(1.0);
+    }
+
+    @Test
+    void unaReplicaQueSeAtrasaDejaDeRecibirLecturasYVuelveAlPonerseAlDia() throws Exception {
+        String r1 = replica("r1", AL_DIA);
+        DataSourceReplicas dataSource = crear(r1);
+        esperarDisponible("r1", true);
+
+        registrarLatido(r1, ATRASADA);
+        esperarDisponible("r1", false);
+        assertThat(leer(dataSource)).isEqualTo(base(primaria.getJdbcUrl()));
+
+        registrarLatido(r1, AL_DIA);
+        esperarDisponible("r1", true);
+        assertThat(leer(dataSource)).isEqualTo(base(r1));
+    }
+
+    @Test
+    void enPrimariaIgnoraLasReplicas() throws Exception {
+        DataSourceReplicas dataSource = crear(replica("r1", AL_DIA));
+        esperarDisponible("r1", true);
+
+        String url = DataSourceReplicas.enPrimaria(() -> {
+            try {
+                return leer(dataSource);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        assertThat(url).isEqualTo(base(primaria.getJdbcUrl()));
+        assertThat(lecturas("r1")).isZero();
+        assertThat(respaldos()).isZero();
+    }
+
+    /**
+     * Crea la primaria y el DataSource con las réplicas indicadas, e inicia las verificaciones.
+     */
+    private DataSourceReplicas crear(String... urlsReplicas) throws SQLException {
+        primaria = new HikariDataSource();
+        primaria.setPoolName("primaria");
+        primaria.setJdbcUrl(urlBase("primaria"));
+        primaria.setConnectionTimeout(250);
+        recursos.add(primaria);
+        crearTablaLatido(primaria.getJdbcUrl(), 0L);
+
+        PropiedadesReplicas propiedades = new PropiedadesReplicas();
+        propiedades.setRetrasoMaximo(Duration.ofSeconds(2));
+        propiedades.setIntervaloVerificacion(Duration.ofMillis(20));
+        for (int i = 0; i < urlsReplicas.length; i++) {
+            PropiedadesReplicas.Nodo nodo = new PropiedadesReplicas.Nodo();
+            nodo.setNombre("r" + (i + 1));
+            nodo.setUrl(urlsReplicas[i]);
+            propiedades.getNodos().add(nodo);
+        }
+
+        DataSourceReplicas dataSource = new DataSourceReplicas(primaria, propiedades);
+        recursos.add(dataSource::destroy);
+        dataSource.bindTo(meterRegistry);
+        dataSource.iniciarVerificaciones();
+        return dataSource;
+    }
+
+    /**
+     * Crea la base de una réplica con el latido indicado.
+     */
+    private String replica(String nombre, long latido) throws SQLException {
+        String url = urlBase(nombre);
+        crearTablaLatido(url, latido);
+        return url;
+    }
+
+    private static String urlBase(String nombre) {
+        return "jdbc:h2:mem:" + nombre + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    private static String base(String url) {
+        int parametros = url.indexOf(';');
+        return parametros >= 0 ? url.substring(0, parametros) : url;
+    }
+
+    private static void crearTablaLatido(String url, long latido) throws SQLException {
+        try (Connection conexion = DriverManager.getConnection(url);
+             Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("CREATE TABLE replicacion_latido (id INT PRIMARY KEY, marca BIGINT NOT NULL)");
+            sentencia.execute("INSERT INTO replicacion_latido (id, marca) VALUES (1, " + latido + ")");
+        }
+    }
+
+    private static void registrarLatido(String url, long latido) throws SQLException {
+        try (Connection conexion = DriverManager.getConnection(url);
+             Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("UPDATE replicacion_latido SET marca = " + latido + " WHERE id = 1");
+        }
+    }
+
+    /**
+     * Obtiene una conexión dentro de una transacción de solo lectura.
+     *
+     * @return URL (sin parámetros) de la base que atendió la lectura
+     */
+    private static String leer(DataSourceReplicas dataSource) throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection conexion = dataSource.getConnection()) {
+            return base(conexion.getMetaData().getURL());
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private void esperarDisponible(String replica, boolean disponible) throws InterruptedException {
+        double esperado = disponible ? 1.0 : 0.0;
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        // Hasta la primera verificación la réplica no está disponible y su retraso es -1
+        while (meterRegistry.get("productos.replicas.retraso").tag("replica", replica).timeGauge().value() < 0
+                || meterRegistry.get("productos.replicas.disponible").tag("replica", replica).gauge().value() != esperado) {
+            assertThat(System.nanoTime()).as("disponibilidad de " + replica).isLessThan(limite);
+            Thread.sleep(10);
+        }
+    }
+
+    private double lecturas(String replica) {
+        return meterRegistry.get("productos.replicas.lecturas").tag("replica", replica).functionCounter().count();
+    }
+
+    private double respaldos() {
+        return meterRegistry.get("productos.replicas.respaldos").functionCounter().count();
+    }
+}
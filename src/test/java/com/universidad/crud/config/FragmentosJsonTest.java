@@ -0,0 +1,133 @@
+package com.universidad.crud.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.universidad.crud.dto.CambioProducto;
+import com.universidad.crud.dto.PaginaResponse;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.dto.ProductosPorIdResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de la caché de fragmentos JSON de productos: las respuestas escritas con los fragmentos deben
+ * ser idénticas byte a byte a las de la serialización estándar, y un cambio confirmado debe descartar
+ * el fragmento del producto.
+ * El ObjectMapper de la aplicación se construye como lo hace Spring Boot, con el módulo de fragmentos,
+ * y el conversor JSON se obtiene de {@link JacksonConfig}.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class FragmentosJsonTest {
+
+    private static final LocalDateTime CREACION = LocalDateTime.of(2024, 3, 15, 8, 30, 5, 123_456_000);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FragmentosJson fragmentosJson = new FragmentosJson(true, 100, meterRegistry);
+    private final ObjectMapper estandar = mapper().build();
+    private final MappingJackson2HttpMessageConverter conversor = new JacksonConfig()
+            .mappingJackson2HttpMessageConverter(mapper().modulesToInstall(fragmentosJson.modulo()).build(),
+                    fragmentosJson);
+
+    @Test
+    void lasRespuestasConFragmentosSonIdenticasALaSerializacionEstandar() throws IOException {
+        ProductoResponse mesa = producto(1L, "Mesa de \"roble\" – 120 cm", "10.50", 0L);
+        ProductoResponse silla = producto(2L, "Silla", "1234567.00", 3L);
+        List<Object> respuestas = Arrays.asList(
+                mesa,
+                Arrays.asList(mesa, silla),
+                PaginaResponse.<ProductoResponse>builder()
+                        .contenido(Arrays.asList(mesa, silla)).siguienteCursor("Mg").limite(2).build(),
+                ProductosPorIdResponse.<ProductoResponse>builder()
+                        .productos(Collections.singletonList(silla)).noEncontrados(Collections.singletonList(9L))
+                        .build());
+
+        for (Object respuesta : respuestas) {
+            byte[] esperado = estandar.writeValueAsBytes(respuesta);
+            // La primera escritura genera los fragmentos y la segunda los copia de la caché
+            assertThat(escribir(respuesta, MediaType.APPLICATION_JSON)).isEqualTo(esperado);
+            assertThat(escribir(respuesta, MediaType.APPLICATION_JSON)).isEqualTo(esperado);
+            assertThat(escribir(respuesta, MediaType.APPLICATION_NDJSON)).isEqualTo(esperado);
+        }
+        assertThat(aciertos()).isPositive();
+    }
+
+    @Test
+    void unCambioConfirmadoDescartaElFragmentoDelProducto() throws IOException {
+        ProductoResponse original = producto(1L, "Mesa", "10.50", 0L);
+        escribir(original, MediaType.APPLICATION_JSON);
+        assertThat(tamanio()).isEqualTo(1.0);
+
+        ProductoResponse modificado = producto(1L, "Mesa plegable", "12.00", 1L);
+        fragmentosJson.alConfirmar(CambioProducto.modificado(modificado));
+        assertThat(tamanio()).isZero();
+
+        assertThat(new String(escribir(modificado, MediaType.APPLICATION_JSON), StandardCharsets.UTF_8))
+                .isEqualTo(estandar.writeValueAsString(modificado))
+                .contains("Mesa plegable")
+                .doesNotContain("\"version\":0");
+    }
+
+    @Test
+    void nuncaEscribeElFragmentoDeOtraVersion() throws IOException {
+        escribir(producto(1L, "Mesa", "10.50", 0L), MediaType.APPLICATION_JSON);
+
+        // Otra versión sin que se haya confirmado el cambio en esta instancia
+        ProductoResponse otraVersion = producto(1L, "Mesa", "10.50", 1L);
+
+        assertThat(escribir(otraVersion, MediaType.APPLICATION_JSON))
+                .isEqualTo(estandar.writeValueAsBytes(otraVersion));
+    }
+
+    private byte[] escribir(Object respuesta, MediaType tipo) throws IOException {
+        MockHttpOutputMessage salida = new MockHttpOutputMessage();
+        conversor.write(respuesta, tipo, salida);
+        return salida.getBodyAsBytes();
+    }
+
+    private double aciertos() {
+        return meterRegistry.get("cache.gets").tag("cache", "productos-json").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private double tamanio() {
+        return meterRegistry.get("cache.size").tag("cache", "productos-json").gauge().value();
+    }
+
+    /**
+     * Misma configuración de Jackson que aplica Spring Boot por defecto.
+     */
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new JavaTimeModule())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ProductoResponse producto(Long id, String nombre, String precio, Long version) {
+        return ProductoResponse.builder()
+                .id(id)
+                .nombre(nombre)
+                .descripcion("Descripción con acentos y ñ")
+                .precio(new BigDecimal(precio))
+                .fechaCreacion(CREACION)
+                .fechaActualizacion(CREACION.plusSeconds(version))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de la codificación de los cursores opacos de paginación.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class CursorTest {
+
+    @Test
+    void codificaUnIdentificadorYLoRecupera() {
+        String cursor = Cursor.codificar(12345L);
+
+        assertThat(Cursor.decodificarId(cursor)).isEqualTo(12345L);
+    }
+
+    @Test
+    void codificaPrecioEIdentificadorSinPerderLaEscala() {
+        String cursor = Cursor.codificar(new BigDecimal("10.50").toPlainString(), 7L);
+
+        String[] valores = Cursor.decodificar(cursor, 2);
+        assertThat(new BigDecimal(valores[0])).isEqualTo(new BigDecimal("10.50"));
+        assertThat(Long.valueOf(valores[1])).isEqualTo(7L);
+    }
+
+    @Test
+    void codificaLaPosicionDelFlujoDeCambiosConMicrosegundos() {
+        LocalDateTime fecha = LocalDateTime.of(2024, 3, 15, 8, 30, 5, 123_456_000);
+
+        String[] valores = Cursor.decodificar(Cursor.codificar(fecha, 42L), 2);
+
+        assertThat(LocalDateTime.parse(valores[0])).isEqualTo(fecha);
+        assertThat(valores[1]).isEqualTo("42");
+    }
+
+    @Test
+    void elCursorEsSeguroParaUrlsYNoLlevaRelleno() {
+        // Valores cuya codificación estándar incluye '+', '/' y '='
+        String cursor = Cursor.codificar("~~~???", 1L);
+
+        assertThat(cursor).doesNotContain("+", "/", "=");
+        assertThat(Cursor.decodificar(cursor, 2)).containsExactly("~~~???", "1");
+    }
+
+    @Test
+    void rechazaUnCursorConOtraCantidadDeValores() {
+        String cursor = Cursor.codificar("10.00", 7L);
+
+        assertThatThrownBy(() -> Cursor.decodificar(cursor, 1)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> Cursor.decodificarId(cursor)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> Cursor.decodificar(Cursor.codificar(7L), 2)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rechazaUnCursorQueNoEsBase64() {
+        assertThatThrownBy(() -> Cursor.decodificar("no es base64!", 1)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> Cursor.decodificarId("a")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rechazaUnIdentificadorNoNumerico() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> Cursor.decodificarId(cursor)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> Cursor.decodificarId("")).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,240 @@
+package com.universidad.crud.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universidad.crud.dto.CambioProducto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de la difusión de cambios de productos por SSE: filtrado por producto, desconexión de
+ * suscriptores lentos y reanudación con Last-Event-ID.
+ * Cada suscripción se conecta a una conexión simulada que registra lo que se envía y que puede
+ * detenerse como un cliente que no consume.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class EmisorEventosProductosTest {
+
+    private static final Pattern ID_EVENTO = Pattern.compile("id:(\\S+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmisorEventosProductos emisor;
+
+    @AfterEach
+    void detener() throws InterruptedException {
+        if (emisor != null) {
+            emisor.destroy();
+        }
+    }
+
+    @Test
+    void entregaLosCambiosConfirmadosALosSuscriptoresInteresados() throws Exception {
+        emisor = crear(10, 100);
+        ConexionSimulada todos = conectar(null, Collections.emptySet());
+        ConexionSimulada soloDos = conectar(null, Collections.singleton(2L));
+
+        emisor.alConfirmar(eliminado(1L));
+        emisor.alConfirmar(eliminado(2L));
+
+        esperar(() -> todos.eventos().size() == 2 && soloDos.eventos().size() == 1);
+        assertThat(todos.eventos().get(0)).contains("event:producto").contains("\"id\":1");
+        assertThat(soloDos.eventos().get(0)).contains("\"id\":2");
+    }
+
+    @Test
+    void desconectaAlSuscriptorQueNoConsumeYConservaAlResto() throws Exception {
+        emisor = crear(3, 100);
+        ConexionSimulada lento = conectar(null, Collections.emptySet());
+        lento.detener();
+        ConexionSimulada rapido = conectar(null, Collections.emptySet());
+
+        // El primer evento queda en envío (detenido); los tres siguientes llenan la cola del suscriptor
+        // lento y el quinto la desborda. Cada evento se publica cuando el rápido recibió el anterior,
+        // para que su cola no se llene, y el cierre del lento ocupa otro hilo hasta que termine la escritura
+        emisor.alConfirmar(eliminado(1L));
+        lento.esperarEnvioDetenido();
+        for (long id = 2; id <= 5; id++) {
+            long recibidos = id - 1;
+            esperar(() -> rapido.eventos().size() == recibidos);
+            emisor.alConfirmar(eliminado(id));
+        }
+
+        assertThat(meterRegistry.get("productos.eventos.descartados").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("productos.eventos.suscriptores").gauge().value()).isEqualTo(1.0);
+        esperar(() -> rapido.eventos().size() == 5);
+
+        lento.reanudar();
+        esperar(lento::completada);
+        assertThat(lento.eventos()).hasSizeLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void alReconectarseReanudaDesdeElUltimoEventoRecibido() throws Exception {
+        emisor = crear(10, 100);
+        ConexionSimulada primera = conectar(null, Collections.emptySet());
+        emisor.alConfirmar(eliminado(1L));
+        esperar(() -> primera.eventos().size() == 1);
+        String ultimoEventoId = primera.idDe(0);
+
+        // Cambios confirmados mientras el cliente está desconectado
+        primera.desconectar();
+        emisor.alConfirmar(eliminado(2L));
+        emisor.alConfirmar(eliminado(3L));
+
+        ConexionSimulada reconectada = conectar(ultimoEventoId, Collections.emptySet());
+        esperar(() -> reconectada.eventos().size() == 2);
+        assertThat(reconectada.eventos().get(0)).contains("\"id\":2");
+        assertThat(reconectada.eventos().get(1)).contains("\"id\":3");
+    }
+
+    @Test
+    void pideSincronizarSiElUltimoEventoYaNoEstaEnElHistorial() throws Exception {
+        emisor = crear(10, 2);
+        ConexionSimulada primera = conectar(null, Collections.emptySet());
+        emisor.alConfirmar(eliminado(1L));
+        esperar(() -> primera.eventos().size() == 1);
+        String ultimoEventoId = primera.idDe(0);
+        for (long id = 2; id <= 4; id++) {
+            emisor.alConfirmar(eliminado(id));
+        }
+
+        ConexionSimulada reconectada = conectar(ultimoEventoId, Collections.emptySet());
+        esperar(() -> reconectada.eventos().size() == 1);
+        assertThat(reconectada.eventos().get(0)).contains("event:sincronizar");
+
+        ConexionSimulada otraInstancia = conectar("otra-1", Collections.emptySet());
+        esperar(() -> otraInstancia.eventos().size() == 1);
+        assertThat(otraInstancia.eventos().get(0)).contains("event:sincronizar");
+    }
+
+    private EmisorEventosProductos crear(int capacidadCola, int historial) {
+        return new EmisorEventosProductos(new ObjectMapper().findAndRegisterModules(), capacidadCola, historial,
+                3, Duration.ofMinutes(1), Duration.ofHours(1), meterRegistry);
+    }
+
+    private ConexionSimulada conectar(String ultimoEventoId, Set<Long> ids) throws Exception {
+        return new ConexionSimulada(emisor.suscribir(ultimoEventoId, ids));
+    }
+
+    private static CambioProducto eliminado(long id) {
+        return CambioProducto.eliminado(id, LocalDateTime.now());
+    }
+
+    private static void esperar(BooleanSupplier condicion) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicion.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condición esperada").isLessThan(limite);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Conexión HTTP simulada de un suscriptor. Implementa el manejador con el que Spring MVC
+     * conecta un SseEmitter a la respuesta, que no es público.
+     */
+    private static final class ConexionSimulada {
+
+        private final List<String> eventos = new CopyOnWriteArrayList<>();
+        private final List<Runnable> alCompletar = new CopyOnWriteArrayList<>();
+        private final StringBuilder actual = new StringBuilder();
+        private final CountDownLatch envioDetenido = new CountDownLatch(1);
+        private volatile CountDownLatch reanudacion;
+        private volatile boolean completada;
+
+        ConexionSimulada(SseEmitter emitter) throws Exception {
+            Class<?> tipoManejador = Class.forName(ResponseBodyEmitter.class.getName() + "$Handler");
+            Object manejador = Proxy.newProxyInstance(tipoManejador.getClassLoader(), new Class<?>[] {tipoManejador},
+                    (proxy, metodo, argumentos) -> manejar(metodo, argumentos));
+            Method inicializar = ResponseBodyEmitter.class.getDeclaredMethod("initialize", tipoManejador);
+            inicializar.setAccessible(true);
+            inicializar.invoke(emitter, manejador);
+        }
+
+        private Object manejar(Method metodo, Object[] argumentos) throws InterruptedException {
+            switch (metodo.getName()) {
+                case "send":
+                    CountDownLatch detenida = reanudacion;
+                    if (detenida != null) {
+                        envioDetenido.countDown();
+                        detenida.await(5, TimeUnit.SECONDS);
+                    }
+                    recibir(String.valueOf(argumentos[0]));
+                    return null;
+                case "complete":
+                case "completeWithError":
+                    completada = true;
+                    alCompletar.forEach(Runnable::run);
+                    return null;
+                case "onCompletion":
+                case "onError":
+                    if (argumentos[0] instanceof Runnable) {
+                        alCompletar.add((Runnable) argumentos[0]);
+                    }
+                    return null;
+                default:
+                    return null;
+            }
+        }
+
+        private synchronized void recibir(String parte) {
+            actual.append(parte);
+            // Cada evento SSE termina con una línea vacía
+            if (actual.toString().endsWith("\n\n")) {
+                eventos.add(actual.toString());
+                actual.setLength(0);
+            }
+        }
+
+        List<String> eventos() {
+            return eventos;
+        }
+
+        String idDe(int indice) {
+            Matcher matcher = ID_EVENTO.matcher(eventos.get(indice));
+            assertThat(matcher.find()).isTrue();
+            return matcher.group(1);
+        }
+
+        boolean completada() {
+            return completada;
+        }
+
+        void detener() {
+            reanudacion = new CountDownLatch(1);
+        }
+
+        void esperarEnvioDetenido() throws InterruptedException {
+            assertThat(envioDetenido.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void reanudar() {
+            reanudacion.countDown();
+            reanudacion = null;
+        }
+
+        void desconectar() {
+            completada = true;
+            alCompletar.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.model.ProductoEliminado;
+import com.universidad.crud.repository.ProductoEliminadoRepository;
+import com.universidad.crud.repository.ProductoNombre;
+import com.universidad.crud.repository.ProductoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas del índice de trigramas sobre el nombre de los productos, en particular de las
+ * escrituras confirmadas mientras se realiza la carga inicial y de la sincronización con los
+ * cambios hechos fuera de la instancia.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class IndiceNombresTest {
+
+    private final ProductoRepository productoRepository = mock(ProductoRepository.class);
+    private final ProductoEliminadoRepository productoEliminadoRepository = mock(ProductoEliminadoRepository.class);
+    private final ExecutorService hilos = Executors.newSingleThreadExecutor();
+    // Sin sincronización periódica: las pruebas la invocan directamente
+    private final IndiceNombres indice = new IndiceNombres(productoRepository, productoEliminadoRepository,
+            mock(PlatformTransactionManager.class), hilos::execute, true, Duration.ZERO, Duration.ZERO);
+
+    @AfterEach
+    void detenerHilos() {
+        hilos.shutdownNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void buscaPorSubcadenaOrdenandoPorRelevancia() throws Exception {
+        when(productoRepository.streamNombres()).thenReturn(Stream.of(
+                fila(1L, "Mesa de comedor"), fila(2L, "Comedor"), fila(3L, "Silla de comedor"), fila(4L, "Lámpara")));
+
+        cargar();
+
+        assertThat(indice.estaListo()).isTrue();
+        // Primero la coincidencia al inicio, luego por posición y longitud
+        assertThat(indice.buscar("COMEDOR", 10)).containsExactly(2L, 1L, 3L);
+        assertThat(indice.buscar("comedor", 2)).containsExactly(2L, 1L);
+        assertThat(indice.buscar("me", 10)).containsExactly(1L, 2L, 3L);
+        assertThat(indice.buscar("armario", 10)).isEmpty();
+    }
+
+    @Test
+    void laCargaNoSobrescribeLasEscriturasConfirmadasDuranteElla() throws Exception {
+        CountDownLatch pausada = new CountDownLatch(1);
+        CountDownLatch reanudada = new CountDownLatch(1);
+        ProductoNombre pausa = fila(2L, "Silla vieja");
+        when(productoRepository.streamNombres()).thenReturn(Stream.of(
+                        fila(1L, "Mesa"), pausa, fila(3L, "Lámpara"), fila(4L, "Armario"))
+                .peek(fila -> {
+                    if (fila == pausa) {
+                        pausada.countDown();
+                        esperar(reanudada);
+                    }
+                }));
+
+        indice.iniciarCarga();
+        assertThat(pausada.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(indice.estaListo()).isFalse();
+
+        // Escrituras confirmadas entre la lectura de las filas y su registro en el índice
+        indice.indexar(2L, "Silla nueva");
+        indice.eliminar(Collections.singletonList(3L));
+        indice.indexar(5L, "Estante");
+        reanudada.countDown();
+        esperarListo();
+
+        assertThat(indice.buscar("silla", 10)).containsExactly(2L);
+        assertThat(indice.buscar("vieja", 10)).isEmpty();
+        assertThat(indice.buscar("nueva", 10)).containsExactly(2L);
+        assertThat(indice.buscar("lámpara", 10)).isEmpty();
+        assertThat(indice.buscar("estante", 10)).containsExactly(5L);
+        assertThat(indice.buscar("armario", 10)).containsExactly(4L);
+    }
+
+    @Test
+    void lasEscriturasSeAplicanAlConfirmarLaTransaccion() throws Exception {
+        when(productoRepository.streamNombres()).thenReturn(Stream.of(fila(1L, "Mesa")));
+        cargar();
+
+        TransactionSynchronizationManager.initSynchronization();
+        indice.indexar(1L, "Escritorio");
+        indice.eliminar(Collections.singletonList(1L));
+        indice.indexar(2L, "Mesa auxiliar");
+        assertThat(indice.buscar("mesa", 10)).containsExactly(1L);
+
+        for (TransactionSynchronization sincronizacion : TransactionSynchronizationManager.getSynchronizations()) {
+            sincronizacion.afterCommit();
+        }
+        assertThat(indice.buscar("mesa", 10)).containsExactly(2L);
+        assertThat(indice.buscar("escritorio", 10)).isEmpty();
+    }
+
+    @Test
+    void laSincronizacionAplicaLosCambiosHechosFueraDeLaInstancia() throws Exception {
+        when(productoRepository.streamNombres()).thenReturn(Stream.of(
+                fila(1L, "Mesa"), fila(2L, "Silla"), fila(3L, "Lámpara")));
+        cargar();
+
+        // Cambios confirmados por otra instancia, que no pasan por indexar ni eliminar
+        LocalDateTime fecha = LocalDateTime.now();
+        when(productoRepository.findCambiosDesde(any(), any(), any(), any())).thenReturn(Arrays.asList(
+                producto(2L, "Silla plegable", fecha), producto(4L, "Escritorio", fecha.plusNanos(1000))));
+        when(productoEliminadoRepository.findEliminadosDesde(any(), any(), any(), any())).thenReturn(
+                Collections.singletonList(new ProductoEliminado(3L, fecha)));
+
+        indice.sincronizar();
+
+        assertThat(indice.buscar("silla", 10)).containsExactly(2L);
+        assertThat(indice.buscar("plegable", 10)).containsExactly(2L);
+        assertThat(indice.buscar("escritorio", 10)).containsExactly(4L);
+        assertThat(indice.buscar("lámpara", 10)).isEmpty();
+        assertThat(indice.buscar("mesa", 10)).containsExactly(1L);
+
+        // La siguiente sincronización continúa desde el último cambio aplicado de cada tabla
+        when(productoRepository.findCambiosDesde(any(), any(), any(), any())).thenReturn(Collections.emptyList());
+        when(productoEliminadoRepository.findEliminadosDesde(any(), any(), any(), any()))
+                .thenReturn(Collections.emptyList());
+        indice.sincronizar();
+        verify(productoRepository).findCambiosDesde(eq(fecha.plusNanos(1000)), eq(4L), any(), any());
+        verify(productoEliminadoRepository).findEliminadosDesde(eq(fecha), eq(3L), any(), any());
+    }
+
+    @Test
+    void noSincronizaAntesDeTerminarLaCarga() {
+        indice.sincronizar();
+
+        assertThat(indice.buscar("mesa", 10)).isEmpty();
+        verify(productoRepository, never()).findCambiosDesde(any(), any(), any(), any());
+    }
+
+    @Test
+    void deshabilitadoNoCargaNiRegistraEscrituras() {
+        IndiceNombres deshabilitado = new IndiceNombres(productoRepository, productoEliminadoRepository,
+                mock(PlatformTransactionManager.class), Runnable::run, false, Duration.ZERO, Duration.ZERO);
+
+        deshabilitado.iniciarCarga();
+        deshabilitado.indexar(1L, "Mesa");
+
+        assertThat(deshabilitado.estaListo()).isFalse();
+        assertThat(deshabilitado.buscar("mesa", 10)).isEmpty();
+    }
+
+    private void cargar() throws InterruptedException {
+        indice.iniciarCarga();
+        esperarListo();
+    }
+
+    private void esperarListo() throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!indice.estaListo()) {
+            assertThat(System.nanoTime()).as("carga del índice").isLessThan(limite);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ProductoResponse producto(Long id, String nombre, LocalDateTime fechaActualizacion) {
+        return ProductoResponse.builder().id(id).nombre(nombre).fechaActualizacion(fechaActualizacion).build();
+    }
+
+    private static ProductoNombre fila(Long id, String nombre) {
+        return new ProductoNombre() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getNombre() {
+                return nombre;
+            }
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.dto.CambioProducto;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pruebas de la agrupación de lecturas concurrentes.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class LecturasCompartidasTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService hilos = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void detenerHilos() {
+        hilos.shutdownNow();
+    }
+
+    @Test
+    void lasLecturasConcurrentesDelMismoIdCompartenUnaCarga() throws Exception {
+        LecturasCompartidas lecturas = new LecturasCompartidas(true, meterRegistry);
+        CargaBloqueada carga = new CargaBloqueada(producto(1L, 0L));
+
+        Future<ProductoResponse> primera = hilos.submit(() -> lecturas.obtenerPorId(1L, carga));
+        carga.esperarInicio();
+        Future<ProductoResponse> segunda = hilos.submit(() -> lecturas.obtenerPorId(1L, carga));
+        esperarAgrupadas(1);
+        carga.liberar();
+
+        assertThat(primera.get(5, TimeUnit.SECONDS)).isSameAs(segunda.get(5, TimeUnit.SECONDS));
+        assertThat(carga.ejecuciones.get()).isEqualTo(1);
+        assertThat(contador("productos.lecturas.cargas")).isEqualTo(1.0);
+    }
+
+    @Test
+    void lasLecturasAgrupadasRecibenLaExcepcionDeLaCarga() throws Exception {
+        LecturasCompartidas lecturas = new LecturasCompartidas(true, meterRegistry);
+        CountDownLatch iniciada = new CountDownLatch(1);
+        CountDownLatch liberada = new CountDownLatch(1);
+        Supplier<ProductoResponse> carga = () -> {
+            iniciada.countDown();
+            esperar(liberada);
+            throw new ResourceNotFoundException("Producto", "id", 1L);
+        };
+
+        Future<ProductoResponse> primera = hilos.submit(() -> lecturas.obtenerPorId(1L, carga));
+        assertThat(iniciada.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<ProductoResponse> segunda = hilos.submit(() -> lecturas.obtenerPorId(1L, carga));
+        esperarAgrupadas(1);
+        liberada.countDown();
+
+        assertThatThrownBy(() -> primera.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> segunda.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void unCambioConfirmadoOlvidaLaCargaEnCurso() throws Exception {
+        LecturasCompartidas lecturas = new LecturasCompartidas(true, meterRegistry);
+        CargaBloqueada anterior = new CargaBloqueada(producto(1L, 0L));
+
+        Future<ProductoResponse> primera = hilos.submit(() -> lecturas.obtenerPorId(1L, anterior));
+        anterior.esperarInicio();
+        lecturas.alConfirmar(CambioProducto.modificado(producto(1L, 1L)));
+
+        // La lectura posterior al cambio no espera la carga iniciada antes de él
+        ProductoResponse posterior = lecturas.obtenerPorId(1L, () -> producto(1L, 1L));
+        assertThat(posterior.getVersion()).isEqualTo(1L);
+        assertThat(contador("productos.lecturas.agrupadas")).isZero();
+
+        anterior.liberar();
+        assertThat(primera.get(5, TimeUnit.SECONDS).getVersion()).isZero();
+    }
+
+    @Test
+    void lasLecturasDeDistintosIdsNoSeAgrupan() throws Exception {
+        LecturasCompartidas lecturas = new LecturasCompartidas(true, meterRegistry);
+        CargaBloqueada carga = new CargaBloqueada(producto(1L, 0L));
+
+        Future<ProductoResponse> primera = hilos.submit(() -> lecturas.obtenerPorId(1L, carga));
+        carga.esperarInicio();
+        assertThat(lecturas.obtenerPorId(2L, () -> producto(2L, 0L)).getId()).isEqualTo(2L);
+
+        carga.liberar();
+        assertThat(primera.get(5, TimeUnit.SECONDS).getId()).isEqualTo(1L);
+        assertThat(contador("productos.lecturas.agrupadas")).isZero();
+    }
+
+    @Test
+    void deshabilitadaEjecutaCadaCarga() {
+        LecturasCompartidas lecturas = new LecturasCompartidas(false, meterRegistry);
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        lecturas.obtenerPorId(1L, () -> producto(ejecuciones.incrementAndGet(), 0L));
+        lecturas.obtenerPorId(1L, () -> producto(ejecuciones.incrementAndGet(), 0L));
+
+        assertThat(ejecuciones.get()).isEqualTo(2);
+    }
+
+    private void esperarAgrupadas(double cantidad) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (contador("productos.lecturas.agrupadas") < cantidad) {
+            assertThat(System.nanoTime()).as("lecturas agrupadas").isLessThan(limite);
+            Thread.sleep(1);
+        }
+    }
+
+    private double contador(String nombre) {
+        return meterRegistry.find(nombre).tag("operacion", "obtener-por-id").counter().count();
+    }
+
+    private static ProductoResponse producto(long id, long version) {
+        return ProductoResponse.builder().id(id).nombre("Producto " + id).version(version).build();
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Carga que se detiene hasta que la prueba la libera.
+     */
+    private static final class CargaBloqueada implements Supplier<ProductoResponse> {
+
+        private final ProductoResponse resultado;
+        private final CountDownLatch iniciada = new CountDownLatch(1);
+        private final CountDownLatch liberada = new CountDownLatch(1);
+        private final AtomicInteger ejecuciones = new AtomicInteger();
+
+        CargaBloqueada(ProductoResponse resultado) {
+            this.resultado = resultado;
+        }
+
+        @Override
+        public ProductoResponse get() {
+            ejecuciones.incrementAndGet();
+            iniciada.countDown();
+            esperar(liberada);
+            return resultado;
+        }
+
+        void esperarInicio() throws InterruptedException {
+            assertThat(iniciada.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void liberar() {
+            liberada.countDown();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.universidad.crud.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pruebas de la construcción de los patrones LIKE de la búsqueda por nombre.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+class PatronLikeTest {
+
+    @Test
+    void envuelveElTextoEnComodines() {
+        assertThat(PatronLike.contiene("mesa")).isEqualTo("%mesa%");
+        assertThat(PatronLike.contiene("")).isEqualTo("%%");
+    }
+
+    @Test
+    void escapaLosComodinesYElCaracterDeEscape() {
+        assertThat(PatronLike.contiene("100%")).isEqualTo("%100\\%%");
+        assertThat(PatronLike.contiene("cable_usb")).isEqualTo("%cable\\_usb%");
+        assertThat(PatronLike.contiene("a\\b")).isEqualTo("%a\\\\b%");
+    }
+}
@@ -0,0 +1,165 @@
+package com.universidad.crud.service;
+
+import com.universidad.crud.config.HibernateCacheConfig;
+import com.universidad.crud.dto.MarcaVersion;
+import com.universidad.crud.dto.ProductoPatchRequest;
+import com.universidad.crud.dto.ProductoRequest;
+import com.universidad.crud.dto.ProductoResponse;
+import com.universidad.crud.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pruebas de la actualización parcial (PATCH) de productos sobre H2, con la caché de segundo nivel
+ * de Hibernate: validación de la versión esperada, conflicto de concurrencia optimista, lectura
+ * posterior de la nueva versión y versión del catálogo.
+ * Usa la configuración del perfil h2 (base en memoria con las migraciones de Flyway) y cada operación
+ * del servicio se ejecuta en su propia transacción, como en una petición.
+ *
+ * @author Carlos Andres Carvajal Rivera
+ * @version 1.0.0
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({HibernateCacheConfig.class, ProductoServiceImpl.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductoServiceImplTest {
+
+    @Autowired
+    private ProductoService productoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private IndiceNombres indiceNombres;
+
+    @MockBean
+    private LecturasCompartidas lecturasCompartidas;
+
+    @MockBean
+    private CacheProductos cacheProductos;
+
+    @MockBean
+    private EscriturasRecientes escriturasRecientes;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void leerSinCaches() {
+        // Las lecturas por ID van siempre a la carga (caché de segundo nivel o base de datos)
+        when(cacheProductos.obtener(anyLong(), any()))
+                .thenAnswer(invocacion -> ((Supplier<ProductoResponse>) invocacion.getArgument(1)).get());
+        when(lecturasCompartidas.obtenerPorId(anyLong(), any()))
+                .thenAnswer(invocacion -> ((Supplier<ProductoResponse>) invocacion.getArgument(1)).get());
+    }
+
+    @Test
+    void actualizaLosCamposIndicadosYLaLecturaDevuelveLaNuevaVersion() {
+        ProductoResponse creado = crear("Mesa de roble");
+
+        MarcaVersion marca = productoService.actualizarParcial(creado.getId(), 0L,
+                ProductoPatchRequest.builder().precio(new BigDecimal("150.00")).build());
+
+        assertThat(marca.getValor()).isEqualTo(creado.getId() + "-1");
+        ProductoResponse leido = productoService.obtenerPorId(creado.getId());
+        assertThat(leido.getVersion()).isEqualTo(1L);
+        assertThat(leido.getPrecio()).isEqualByComparingTo("150.00");
+        assertThat(leido.getNombre()).isEqualTo("Mesa de roble");
+        assertThat(leido.getDescripcion()).isEqualTo(creado.getDescripcion());
+    }
+
+    @Test
+    void rechazaUnaVersionEsperadaQueNoEsLaActual() {
+        ProductoResponse creado = crear("Silla plegable");
+        productoService.actualizarParcial(creado.getId(), 0L,
+                ProductoPatchRequest.builder().nombre("Silla plegable negra").build());
+
+        // Un cliente que aún tiene la versión 0
+        assertThatThrownBy(() -> productoService.actualizarParcial(creado.getId(), 0L,
+                ProductoPatchRequest.builder().precio(BigDecimal.ONE).build()))
+                .isInstanceOf(ConflictException.class);
+
+        ProductoResponse leido = productoService.obtenerPorId(creado.getId());
+        assertThat(leido.getVersion()).isEqualTo(1L);
+        assertThat(leido.getPrecio()).isEqualByComparingTo("99.90");
+    }
+
+    @Test
+    void unaModificacionConcurrenteProduceUnConflictoOptimista() {
+        ProductoResponse creado = crear("Lámpara de pie");
+        // La lectura deja la versión 0 en la caché de segundo nivel
+        assertThat(productoService.obtenerPorId(creado.getId()).getVersion()).isZero();
+
+        // Otra instancia modifica la fila sin pasar por esta caché
+        new TransactionTemplate(transactionManager).executeWithoutResult(estado -> jdbcTemplate.update(
+                "UPDATE productos SET precio = 80, version = version + 1 WHERE id = ?", creado.getId()));
+
+        // La versión cargada de la caché coincide con la esperada, pero el UPDATE condicionado a ella no
+        // encuentra la fila
+        assertThatThrownBy(() -> productoService.actualizarParcial(creado.getId(), 0L,
+                ProductoPatchRequest.builder().precio(new BigDecimal("70.00")).build()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        ProductoResponse leido = productoService.obtenerPorId(creado.getId());
+        assertThat(leido.getVersion()).isEqualTo(1L);
+        assertThat(leido.getPrecio()).isEqualByComparingTo("80");
+    }
+
+    @Test
+    void cadaEscrituraConfirmadaCambiaLaVersionDelCatalogo() {
+        MarcaVersion inicial = productoService.obtenerMarcaVersionCatalogo();
+        ProductoResponse creado = crear("Estante de pino");
+        MarcaVersion trasCrear = productoService.obtenerMarcaVersionCatalogo();
+        assertThat(trasCrear.getValor()).isNotEqualTo(inicial.getValor());
+
+        productoService.actualizarParcial(creado.getId(), 0L,
+                ProductoPatchRequest.builder().precio(new BigDecimal("45.00")).build());
+        MarcaVersion trasActualizar = productoService.obtenerMarcaVersionCatalogo();
+        assertThat(trasActualizar.getValor()).isNotEqualTo(trasCrear.getValor());
+        assertThat(trasActualizar.getUltimaModificacion()).isAfterOrEqualTo(trasCrear.getUltimaModificacion());
+
+        // Una escritura rechazada no cambia la versión
+        assertThatThrownBy(() -> productoService.actualizarParcial(creado.getId(), 0L,
+                ProductoPatchRequest.builder().precio(BigDecimal.ONE).build()))
+                .isInstanceOf(ConflictException.class);
+        assertThat(productoService.obtenerMarcaVersionCatalogo()).isEqualTo(trasActualizar);
+
+        productoService.eliminar(creado.getId());
+        assertThat(productoService.obtenerMarcaVersionCatalogo().getValor()).isNotEqualTo(trasActualizar.getValor());
+    }
+
+    private ProductoResponse crear(String nombre) {
+        ProductoResponse creado = productoService.crear(new ProductoRequest(nombre,
+                "Producto para las pruebas de actualización parcial", new BigDecimal("99.90")));
+        assertThat(creado.getVersion()).isZero();
+        return creado;
+    }
+}